@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.oroarmor.netherite_plus.NetheritePlusMod;
+import com.oroarmor.netherite_plus.advancement.criterion.NetheritePlusCriteria;
+import com.oroarmor.netherite_plus.block.NetheritePlusBlocks;
+import com.oroarmor.netherite_plus.entity.effect.NetheritePlusStatusEffects;
+import com.oroarmor.netherite_plus.mixin.AbstractCriterionAccessor;
+import com.oroarmor.netherite_plus.mixin.PlayerAdvancementTrackerAccessor;
+import com.oroarmor.netherite_plus.screen.NetheritePlusScreenHandlers;
+import me.shedaniel.architectury.platform.Platform;
+import me.shedaniel.architectury.registry.CriteriaTriggersRegistry;
+import me.shedaniel.architectury.registry.MenuRegistry;
+import me.shedaniel.architectury.registry.Registries;
+import me.shedaniel.architectury.registry.Registry;
+import me.shedaniel.architectury.registry.RegistrySupplier;
+import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.implementation.FieldAccessor;
+import org.mockito.MockedStatic;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.tag.RequiredTagListRegistry;
+import net.minecraft.tag.Tag;
+import net.minecraft.tag.TagGroup;
+import net.minecraft.tag.TagManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.RegistryKey;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public final class BenchmarkBootstrap {
+    private static boolean initialized;
+    private static boolean modInitialized;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+
+        installAccessors();
+        Bootstrap.initialize();
+
+        // Tags normally come from data packs, so bind the ones the benchmarked code reads
+        Map<Identifier, Tag<Block>> blockTags = ImmutableMap.of(new Identifier("beacon_base_blocks"), Tag.of(ImmutableSet.of(Blocks.NETHERITE_BLOCK, Blocks.EMERALD_BLOCK, Blocks.DIAMOND_BLOCK, Blocks.GOLD_BLOCK, Blocks.IRON_BLOCK)));
+        Map<Identifier, Tag<Fluid>> fluidTags = ImmutableMap.of(new Identifier("lava"), Tag.of(ImmutableSet.of(Fluids.LAVA, Fluids.FLOWING_LAVA)));
+        RequiredTagListRegistry.updateTagManager(TagManager.create(TagGroup.create(blockTags), TagGroup.createEmpty(), TagGroup.create(fluidTags), TagGroup.createEmpty()));
+
+        initialized = true;
+    }
+
+    // architectury's registries, menus and config folder only exist on a loader, so the mod's static registration
+    // runs against mocks here and every supplier resolves straight to the entry it was given
+    @SuppressWarnings("unchecked")
+    public static synchronized void initializeMod() {
+        if (modInitialized) {
+            return;
+        }
+
+        initialize();
+
+        Registry<Object> registry = mock(Registry.class, withSettings().stubOnly());
+        when(registry.registerSupplied(any(), any())).thenAnswer(invocation -> supplier(invocation.getArgument(1)));
+        Registries registries = mock(Registries.class, withSettings().stubOnly());
+        when(registries.get(any(RegistryKey.class))).thenReturn(registry);
+
+        try (MockedStatic<Platform> platform = mockStatic(Platform.class);
+             MockedStatic<Registries> registriesFactory = mockStatic(Registries.class);
+             MockedStatic<MenuRegistry> menus = mockStatic(MenuRegistry.class);
+             MockedStatic<CriteriaTriggersRegistry> criteria = mockStatic(CriteriaTriggersRegistry.class)) {
+            platform.when(Platform::getConfigFolder).thenReturn(Paths.get("build", "tmp", "jmh"));
+            registriesFactory.when(() -> Registries.get(anyString())).thenReturn(registries);
+            criteria.when(() -> CriteriaTriggersRegistry.register(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            NetheritePlusMod.REGISTRIES.get();
+            // the blocks register from their static initializer
+            NetheritePlusBlocks.NETHERITE_BEACON.get();
+            NetheritePlusStatusEffects.init();
+            NetheritePlusScreenHandlers.init();
+            NetheritePlusCriteria.init();
+        }
+
+        modInitialized = true;
+    }
+
+    // the accessor mixins need a mixin environment, so the same accessors are added to their targets as those load
+    private static void installAccessors() {
+        ByteBuddyAgent.install();
+        new AgentBuilder.Default()
+                .type(named("net.minecraft.advancement.criterion.AbstractCriterion"))
+                .transform((builder, type, classLoader, module) -> builder.implement(AbstractCriterionAccessor.class).method(named("getProgressions")).intercept(FieldAccessor.ofField("progressions")))
+                .type(named("net.minecraft.advancement.PlayerAdvancementTracker"))
+                .transform((builder, type, classLoader, module) -> builder.implement(PlayerAdvancementTrackerAccessor.class).method(named("getOwner")).intercept(FieldAccessor.ofField("owner")))
+                .installOnByteBuddyAgent();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RegistrySupplier<T> supplier(Supplier<T> entry) {
+        Supplier<T> memoized = Suppliers.memoize(entry::get);
+        RegistrySupplier<T> supplier = mock(RegistrySupplier.class, withSettings().stubOnly());
+        when(supplier.get()).thenAnswer(invocation -> memoized.get());
+        when(supplier.isPresent()).thenReturn(true);
+        return supplier;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.oroarmor.config.ConfigItem;
+import com.oroarmor.netherite_plus.config.DoubleConfigItem;
+import com.oroarmor.netherite_plus.config.IntConfigItem;
+
+// the items are built standalone so NetheritePlusConfig, and the platform lookup for its file, never loads
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigItemBenchmark {
+    private ConfigItem<Double> boxedAddition;
+    private ConfigItem<Double> boxedMultiplier;
+    private ConfigItem<Integer> boxedDurability;
+    private DoubleConfigItem addition;
+    private DoubleConfigItem multiplier;
+    private IntConfigItem durability;
+
+    private double damage;
+
+    @Setup
+    public void setup() {
+        boxedAddition = new ConfigItem<>("bow_damage_addition", 0.0D, "");
+        boxedMultiplier = new ConfigItem<>("bow_damage_multiplier", 1.0D, "");
+        boxedDurability = new ConfigItem<>("bow", 768, "");
+        addition = new DoubleConfigItem("bow_damage_addition", 0.0D, "");
+        multiplier = new DoubleConfigItem("bow_damage_multiplier", 1.0D, "");
+        durability = new IntConfigItem("bow", 768, "");
+
+        boxedAddition.setValue(1.5D);
+        boxedMultiplier.setValue(1.25D);
+        addition.setValue(1.5D);
+        multiplier.setValue(1.25D);
+        damage = 6.0D;
+    }
+
+    // the arrow damage adjustment the bow and crossbow paths did before the primitive items, unboxing each read
+    @Benchmark
+    public double boxedDamage() {
+        return damage * boxedMultiplier.getValue() + boxedAddition.getValue();
+    }
+
+    @Benchmark
+    public double primitiveDamage() {
+        return damage * multiplier.getDouble() + addition.getDouble();
+    }
+
+    @Benchmark
+    public int boxedDurability() {
+        return boxedDurability.getValue();
+    }
+
+    @Benchmark
+    public int primitiveDurability() {
+        return durability.getInt();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.collection.DefaultedList;
+
+// a row of boxes passing one item per link per step, the way a hopper between each pair would
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HopperChainBenchmark {
+    private static final int SIZE = NetheriteShulkerBoxInventory.SIZE;
+    private static final int STEPS = 256;
+    private static final Item[] ITEMS = {Items.COBBLESTONE, Items.DIRT, Items.OAK_LOG, Items.IRON_INGOT, Items.REDSTONE, Items.BONE, Items.STRING, Items.ENDER_PEARL, Items.NETHERITE_SWORD};
+
+    @Param({"4", "16"})
+    public int chainLength;
+
+    @Param({"1", "9"})
+    public int distinctItems;
+
+    private DefaultedList<ItemStack>[] linearChain;
+    private NetheriteShulkerBoxInventory[] indexedChain;
+
+    @Setup
+    public void setupBootstrap() {
+        BenchmarkBootstrap.initialize();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Invocation)
+    public void setupChain() {
+        linearChain = new DefaultedList[chainLength];
+        indexedChain = new NetheriteShulkerBoxInventory[chainLength];
+        for (int i = 0; i < chainLength; i++) {
+            linearChain[i] = DefaultedList.ofSize(SIZE, ItemStack.EMPTY);
+            indexedChain[i] = new NetheriteShulkerBoxInventory();
+            indexedChain[i].setStacks(DefaultedList.ofSize(SIZE, ItemStack.EMPTY));
+        }
+
+        // the source is full and every later box starts half full of other items, so a linear probe has slots to skip
+        for (int slot = 0; slot < SIZE; slot++) {
+            Item item = ITEMS[slot % distinctItems];
+            linearChain[0].set(slot, new ItemStack(item, item.getMaxCount()));
+            indexedChain[0].getStacks().set(slot, new ItemStack(item, item.getMaxCount()));
+            for (int i = 1; i < chainLength && slot % 2 == 0; i++) {
+                linearChain[i].set(slot, new ItemStack(Items.GRAVEL, 32));
+                indexedChain[i].getStacks().set(slot, new ItemStack(Items.GRAVEL, 32));
+            }
+        }
+    }
+
+    @Benchmark
+    public DefaultedList<ItemStack>[] linearProbe() {
+        for (int step = 0; step < STEPS; step++) {
+            for (int i = chainLength - 2; i >= 0; i--) {
+                int slot = firstNonEmpty(linearChain[i]);
+                if (slot >= 0) {
+                    ItemStack moved = linearChain[i].get(slot).split(1);
+                    if (!linearTransfer(linearChain[i + 1], moved).isEmpty()) {
+                        linearChain[i].get(slot).increment(1);
+                    }
+                }
+            }
+        }
+        return linearChain;
+    }
+
+    @Benchmark
+    public NetheriteShulkerBoxInventory[] indexedInsert() {
+        for (int step = 0; step < STEPS; step++) {
+            for (int i = chainLength - 2; i >= 0; i--) {
+                DefaultedList<ItemStack> from = indexedChain[i].getStacks();
+                int slot = firstNonEmpty(from);
+                if (slot >= 0) {
+                    ItemStack moved = from.get(slot).split(1);
+                    indexedChain[i].onSlotChanged(slot);
+                    if (!indexedChain[i + 1].insert(moved).isEmpty()) {
+                        from.get(slot).increment(1);
+                        indexedChain[i].onSlotChanged(slot);
+                    }
+                }
+            }
+        }
+        return indexedChain;
+    }
+
+    private static int firstNonEmpty(DefaultedList<ItemStack> stacks) {
+        for (int slot = 0; slot < stacks.size(); slot++) {
+            if (!stacks.get(slot).isEmpty()) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    // the per slot probe of HopperBlockEntity.transfer
+    private static ItemStack linearTransfer(DefaultedList<ItemStack> to, ItemStack stack) {
+        for (int slot = 0; slot < to.size() && !stack.isEmpty(); slot++) {
+            ItemStack current = to.get(slot);
+            if (current.isEmpty()) {
+                to.set(slot, stack);
+                stack = ItemStack.EMPTY;
+            } else if (current.getItem() == stack.getItem() && current.getDamage() == stack.getDamage() && current.getCount() <= current.getMaxCount() && ItemStack.areTagsEqual(current, stack)) {
+                int moved = Math.min(stack.getCount(), stack.getMaxCount() - current.getCount());
+                stack.decrement(moved);
+                current.increment(moved);
+            }
+        }
+        return stack;
+    }
+}
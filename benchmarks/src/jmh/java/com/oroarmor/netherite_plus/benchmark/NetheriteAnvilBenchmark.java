@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oroarmor.netherite_plus.screen.NetheriteAnvilScreenHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.minecraft.enchantment.EnchantmentLevelEntry;
+import net.minecraft.enchantment.Enchantments;
+import net.minecraft.entity.player.PlayerAbilities;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.EnchantedBookItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NetheriteAnvilBenchmark {
+    @Param({"combine", "book", "repair"})
+    public String input;
+
+    private NetheriteAnvilScreenHandler handler;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        BenchmarkBootstrap.initializeMod();
+
+        // a player cannot be built without a world, the anvil only reads its abilities
+        PlayerEntity player = mock(PlayerEntity.class, withSettings().stubOnly());
+        PlayerEntity.class.getField("abilities").set(player, new PlayerAbilities());
+        handler = new NetheriteAnvilScreenHandler(0, new PlayerInventory(player));
+
+        ItemStack sword = new ItemStack(Items.NETHERITE_SWORD);
+        sword.addEnchantment(Enchantments.SHARPNESS, 4);
+        sword.addEnchantment(Enchantments.UNBREAKING, 2);
+        ItemStack other;
+        switch (input) {
+            case "combine":
+                other = new ItemStack(Items.NETHERITE_SWORD);
+                other.addEnchantment(Enchantments.SHARPNESS, 4);
+                other.addEnchantment(Enchantments.LOOTING, 3);
+                break;
+            case "book":
+                other = EnchantedBookItem.forEnchantment(new EnchantmentLevelEntry(Enchantments.MENDING, 1));
+                break;
+            default:
+                sword.setDamage(sword.getMaxDamage() / 2);
+                other = new ItemStack(Items.NETHERITE_INGOT);
+        }
+
+        handler.getSlot(0).setStack(sword);
+        handler.getSlot(1).setStack(other);
+    }
+
+    @Benchmark
+    public int updateResult() {
+        handler.updateResult();
+        return handler.levelCost.get();
+    }
+}
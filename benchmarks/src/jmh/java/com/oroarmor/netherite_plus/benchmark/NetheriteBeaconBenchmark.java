@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconPyramid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NetheriteBeaconBenchmark {
+    private static final BlockPos BEACON_POS = new BlockPos(0, 64, 0);
+
+    @Param({"1", "4"})
+    public int levels;
+
+    private StubBlockView world;
+    private NetheriteBeaconPyramid pyramid;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.initialize();
+        world = new StubBlockView();
+        for (int layer = 1; layer <= levels; layer++) {
+            for (int x = -layer; x <= layer; x++) {
+                for (int z = -layer; z <= layer; z++) {
+                    world.set(BEACON_POS.add(x, -layer, z), Blocks.NETHERITE_BLOCK.getDefaultState());
+                }
+            }
+        }
+        pyramid = new NetheriteBeaconPyramid();
+        pyramid.update(world, BEACON_POS);
+    }
+
+    @Benchmark
+    public boolean updateLevelRescan() {
+        pyramid.markDirty();
+        return pyramid.update(world, BEACON_POS);
+    }
+
+    @Benchmark
+    public boolean updateLevelUnchanged() {
+        return pyramid.update(world, BEACON_POS);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconEffectScheduler;
+import com.oroarmor.netherite_plus.entity.effect.NetheritePlusStatusEffects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+
+// every beacon of a base pulsing in the same tick, with all of their ranges covering the players; the players are mocks
+// so addStatusEffect itself is nearly free here, the difference is in the lookups and in how many instances get handed out
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NetheriteBeaconEffectsBenchmark {
+    private static final int DURATION = (9 + 4 * 3) * 20;
+
+    @Param({"4", "32", "128"})
+    public int beacons;
+
+    @Param({"4", "32"})
+    public int players;
+
+    private StubWorld world;
+    private Box[] boxes;
+    private StatusEffect lavaVision;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.initializeMod();
+        lavaVision = NetheritePlusStatusEffects.LAVA_VISION.get();
+
+        world = StubWorld.create(new StubBlockView());
+        for (int i = 0; i < players; i++) {
+            world.addPlayer((i % 8) * 6, 64, (i / 8) * 6);
+        }
+
+        // a grid of level 4 beacons three blocks apart, each reaching 50 blocks
+        boxes = new Box[beacons];
+        int side = (int) Math.ceil(Math.sqrt(beacons));
+        for (int i = 0; i < beacons; i++) {
+            boxes[i] = new Box(new BlockPos((i % side) * 3, 60, (i / side) * 3)).expand(50.0D).stretch(0.0D, 256.0D, 0.0D);
+        }
+    }
+
+    // what each beacon did on its own pulse before the scheduler: find the players in range and hand every one of them
+    // a fresh instance of every effect, the scan over the players stands in for getNonSpectatingEntities
+    @Benchmark
+    public int perBeacon() {
+        int applied = 0;
+        for (Box box : boxes) {
+            for (ServerPlayerEntity player : world.players) {
+                if (!box.intersects(player.getBoundingBox())) {
+                    continue;
+                }
+                player.addStatusEffect(new StatusEffectInstance(StatusEffects.SPEED, DURATION, 1, true, true));
+                player.addStatusEffect(new StatusEffectInstance(StatusEffects.FIRE_RESISTANCE, DURATION, 0, true, true));
+                player.addStatusEffect(new StatusEffectInstance(lavaVision, DURATION, 127, true, true));
+                applied += 3;
+            }
+        }
+        return applied;
+    }
+
+    // the pulses are collected and each player gets the strongest instance of each effect once
+    @Benchmark
+    public NetheriteBeaconEffectScheduler batched() {
+        for (Box box : boxes) {
+            world.effectScheduler.schedule(box, DURATION)
+                    .add(StatusEffects.SPEED, 1)
+                    .add(StatusEffects.FIRE_RESISTANCE, 0)
+                    .add(lavaVision, 127);
+        }
+        world.effectScheduler.applyEffects(world);
+        return world.effectScheduler;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMap;
+import com.oroarmor.netherite_plus.advancement.criterion.ConstructNetheriteBeaconCriterion;
+import com.oroarmor.netherite_plus.advancement.criterion.FullNetheriteNetheriteBeaconCriterion;
+import com.oroarmor.netherite_plus.advancement.criterion.NetheritePlusCriteria;
+import com.oroarmor.netherite_plus.block.NetheritePlusBlocks;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconBlockEntity;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconPulseScheduler;
+import org.objenesis.ObjenesisStd;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.minecraft.advancement.Advancement;
+import net.minecraft.advancement.AdvancementRewards;
+import net.minecraft.advancement.PlayerAdvancementTracker;
+import net.minecraft.advancement.criterion.Criterion;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.predicate.NumberRange;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+
+import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NetheriteBeaconTickBenchmark {
+    private static final BlockPos BEACON_POS = new BlockPos(0, 64, 0);
+    private static final MethodHandle APPLY_PLAYER_EFFECTS;
+    private static final Field SYNC_MASK;
+    private static final Field OWNER;
+
+    static {
+        try {
+            Method applyPlayerEffects = NetheriteBeaconBlockEntity.class.getDeclaredMethod("applyPlayerEffects");
+            applyPlayerEffects.setAccessible(true);
+            APPLY_PLAYER_EFFECTS = MethodHandles.lookup().unreflect(applyPlayerEffects);
+            SYNC_MASK = NetheriteBeaconBlockEntity.class.getDeclaredField("syncMask");
+            SYNC_MASK.setAccessible(true);
+            OWNER = PlayerAdvancementTracker.class.getDeclaredField("owner");
+            OWNER.setAccessible(true);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // a level 4 beacon, here also a full netherite one, looks up the players in reach still working on its advancements
+    @Param({"1", "3", "4"})
+    public int levels;
+
+    @Param({"0", "8"})
+    public int players;
+
+    private StubWorld world;
+    private NetheriteBeaconBlockEntity beacon;
+
+    @Setup
+    public void setup() throws IllegalAccessException {
+        BenchmarkBootstrap.initializeMod();
+        StubBlockView blocks = new StubBlockView();
+        for (int layer = 1; layer <= levels; layer++) {
+            for (int x = -layer; x <= layer; x++) {
+                for (int z = -layer; z <= layer; z++) {
+                    blocks.set(BEACON_POS.add(x, -layer, z), Blocks.NETHERITE_BLOCK.getDefaultState());
+                }
+            }
+        }
+        BlockState state = NetheritePlusBlocks.NETHERITE_BEACON.get().getDefaultState();
+        blocks.set(BEACON_POS, state);
+
+        world = StubWorld.create(blocks);
+        world.topY = BEACON_POS.getY() + 1;
+        for (int i = 0; i < players; i++) {
+            track(world.addPlayer(BEACON_POS.getX() + i * 4 - 16, BEACON_POS.getY(), BEACON_POS.getZ() + 3));
+        }
+
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("x", BEACON_POS.getX());
+        tag.putInt("y", BEACON_POS.getY());
+        tag.putInt("z", BEACON_POS.getZ());
+        tag.putInt("Primary", StatusEffect.getRawId(StatusEffects.SPEED));
+        beacon = new NetheriteBeaconBlockEntity();
+        beacon.fromTag(state, tag);
+        beacon.setLocation(world, BEACON_POS);
+
+        // one pulse cycle scans the beam and measures the pyramid, the stub world has no chunks to send the level sync to
+        for (int i = 0; i < NetheriteBeaconPulseScheduler.PULSE_INTERVAL; i++) {
+            beacon.tick();
+            world.tick();
+            SYNC_MASK.setInt(beacon, 0);
+        }
+    }
+
+    // one server tick of the beacon, pulsing once every PULSE_INTERVAL ticks
+    @Benchmark
+    public NetheriteBeaconBlockEntity tick() {
+        beacon.tick();
+        world.tick();
+        return beacon;
+    }
+
+    @Benchmark
+    public NetheriteBeaconBlockEntity applyPlayerEffects() throws Throwable {
+        APPLY_PLAYER_EFFECTS.invokeExact(beacon);
+        world.effectScheduler.applyEffects(world);
+        return beacon;
+    }
+
+    // a tracker of a player who has not earned either beacon advancement yet. the player mock has no tracker of its own,
+    // so a trigger stops at the lookup of the player's progress, the cost measured is finding the players
+    private static void track(ServerPlayerEntity player) throws IllegalAccessException {
+        PlayerAdvancementTracker tracker = new ObjenesisStd().newInstance(PlayerAdvancementTracker.class);
+        OWNER.set(tracker, player);
+        NetheritePlusCriteria.CONSTRUCT_NETHERITE_BEACON.beginTrackingCondition(tracker, new Criterion.ConditionsContainer<>(ConstructNetheriteBeaconCriterion.Conditions.level(NumberRange.IntRange.atLeast(4)), advancement("construct_netherite_beacon"), "level"));
+        NetheritePlusCriteria.FULL_NETHERITE_NETHERITE_BEACON.beginTrackingCondition(tracker, new Criterion.ConditionsContainer<>(FullNetheriteNetheriteBeaconCriterion.Conditions.level(NumberRange.IntRange.atLeast(164)), advancement("full_netherite_netherite_beacon"), "level"));
+    }
+
+    // the conditions are hashed together with the advancement they belong to
+    private static Advancement advancement(String path) {
+        return new Advancement(id(path), null, null, AdvancementRewards.NONE, ImmutableMap.of(), new String[0][]);
+    }
+}
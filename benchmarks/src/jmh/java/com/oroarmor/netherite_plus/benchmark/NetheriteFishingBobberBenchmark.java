@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import com.oroarmor.netherite_plus.entity.NetheriteFishingBobberEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NetheriteFishingBobberBenchmark {
+    private static final BlockPos BOBBER_POS = new BlockPos(0, 32, 0);
+    private static final MethodHandle IS_OPEN_OR_LAVA_AROUND;
+
+    static {
+        try {
+            Method isOpenOrLavaAround = NetheriteFishingBobberEntity.class.getDeclaredMethod("isOpenOrLavaAround", BlockView.class, BlockPos.class);
+            isOpenOrLavaAround.setAccessible(true);
+            IS_OPEN_OR_LAVA_AROUND = MethodHandles.lookup().unreflect(isOpenOrLavaAround);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // an open lava pool makes the check read all 100 positions, a roofed one gives up at the roof
+    @Param({"open", "roofed"})
+    public String pool;
+
+    private StubBlockView blocks;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.initialize();
+        blocks = new StubBlockView();
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                blocks.set(BOBBER_POS.add(x, -1, z), Blocks.LAVA.getDefaultState());
+                blocks.set(BOBBER_POS.add(x, 0, z), Blocks.LAVA.getDefaultState());
+                if (pool.equals("roofed")) {
+                    blocks.set(BOBBER_POS.add(x, 1, z), Blocks.NETHERRACK.getDefaultState());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean isOpenOrLavaAround() throws Throwable {
+        return (boolean) IS_OPEN_OR_LAVA_AROUND.invokeExact((BlockView) blocks, BOBBER_POS);
+    }
+}
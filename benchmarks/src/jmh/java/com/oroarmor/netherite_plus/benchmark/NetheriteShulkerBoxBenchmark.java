@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxBlockEntity;
+import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.minecraft.enchantment.Enchantments;
+import net.minecraft.inventory.Inventories;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.collection.DefaultedList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NetheriteShulkerBoxBenchmark {
+    private static final int SIZE = NetheriteShulkerBoxInventory.SIZE;
+
+    @Param({"0", "13", "27"})
+    public int filledSlots;
+
+    private CompoundTag serialized;
+    private NetheriteShulkerBoxBlockEntity opened;
+    private NetheriteShulkerBoxBlockEntity loaded;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.initializeMod();
+        DefaultedList<ItemStack> inventory = DefaultedList.ofSize(SIZE, ItemStack.EMPTY);
+        for (int i = 0; i < filledSlots; i++) {
+            ItemStack stack = new ItemStack(i % 2 == 0 ? Items.NETHERITE_SWORD : Items.COBBLESTONE, i % 2 == 0 ? 1 : 64);
+            if (i % 2 == 0) {
+                stack.addEnchantment(Enchantments.SHARPNESS, 5);
+                stack.addEnchantment(Enchantments.UNBREAKING, 3);
+            }
+            inventory.set(i, stack);
+        }
+        serialized = Inventories.toTag(new CompoundTag(), inventory, false);
+
+        // block entities are reused across invocations, the constructor resolves the type through a mocked registry
+        opened = new NetheriteShulkerBoxBlockEntity();
+        opened.deserializeInventory(serialized);
+        opened.getStack(0);
+        loaded = new NetheriteShulkerBoxBlockEntity();
+    }
+
+    // a box that was opened writes its parsed stacks out again
+    @Benchmark
+    public CompoundTag saveOpened() {
+        return opened.serializeInventory(new CompoundTag());
+    }
+
+    // chunk load of a box nobody touches
+    @Benchmark
+    public NetheriteShulkerBoxBlockEntity load() {
+        loaded.deserializeInventory(serialized);
+        return loaded;
+    }
+
+    // chunk load followed by the first slot read, which parses every stack: the work every chunk load did before the
+    // contents were kept raw, so load against this with -prof gc is the before and after in time and allocation
+    @Benchmark
+    public ItemStack loadThenOpen() {
+        loaded.deserializeInventory(serialized);
+        return loaded.getStack(0);
+    }
+
+    // chunk load and save without the box being opened
+    @Benchmark
+    public CompoundTag loadThenSave() {
+        loaded.deserializeInventory(serialized);
+        return loaded.serializeInventory(new CompoundTag());
+    }
+
+    // the inventory on its own, run with -prof gc to see the allocation per load
+    @Benchmark
+    public NetheriteShulkerBoxInventory loadLazy() {
+        NetheriteShulkerBoxInventory lazy = new NetheriteShulkerBoxInventory();
+        lazy.readTag(serialized);
+        return lazy;
+    }
+
+    @Benchmark
+    public DefaultedList<ItemStack> loadLazyThenAccess() {
+        NetheriteShulkerBoxInventory lazy = new NetheriteShulkerBoxInventory();
+        lazy.readTag(serialized);
+        return lazy.getStacks();
+    }
+
+    // load and save again without the box being opened, the raw items are shared instead of reparsed
+    @Benchmark
+    public CompoundTag loadLazyThenSave() {
+        NetheriteShulkerBoxInventory lazy = new NetheriteShulkerBoxInventory();
+        lazy.readTag(serialized);
+        return lazy.writeTag(new CompoundTag());
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.oroarmor.netherite_plus.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconEffectScheduler;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconIndex;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconPulseScheduler;
+import com.oroarmor.netherite_plus.world.NetheriteBeaconWorld;
+import org.jetbrains.annotations.Nullable;
+import org.objenesis.ObjenesisStd;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.world.Heightmap;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// a server world that cannot be built without a server, so it is allocated without running any constructor and only the
+// calls the benchmarked code makes are overridden: blocks come from a StubBlockView and what the world mixin adds is
+// implemented here. every call is a plain virtual call, anything not overridden hits a null field and fails loudly
+public class StubWorld extends ServerWorld implements NetheriteBeaconWorld {
+    public StubBlockView blocks;
+    public List<ServerPlayerEntity> players;
+    public NetheriteBeaconIndex index;
+    public NetheriteBeaconPulseScheduler pulseScheduler;
+    public NetheriteBeaconEffectScheduler effectScheduler;
+    public int topY;
+    public long time;
+
+    // only there to satisfy the compiler, create() never runs it
+    private StubWorld() {
+        super(null, null, null, null, null, null, null, null, false, 0L, null, false);
+    }
+
+    public static StubWorld create(StubBlockView blocks) {
+        StubWorld world = new ObjenesisStd().newInstance(StubWorld.class);
+        world.blocks = blocks;
+        world.players = new ArrayList<>();
+        world.index = new NetheriteBeaconIndex();
+        world.pulseScheduler = new NetheriteBeaconPulseScheduler();
+        world.effectScheduler = new NetheriteBeaconEffectScheduler();
+        return world;
+    }
+
+    // the players stay mocks, the benchmarked code only reads their position and hands them effects
+    public ServerPlayerEntity addPlayer(double x, double y, double z) {
+        ServerPlayerEntity player = mock(ServerPlayerEntity.class, withSettings().stubOnly());
+        when(player.getX()).thenReturn(x);
+        when(player.getY()).thenReturn(y);
+        when(player.getZ()).thenReturn(z);
+        when(player.getBoundingBox()).thenReturn(new Box(x - 0.3D, y, z - 0.3D, x + 0.3D, y + 1.8D, z + 0.3D));
+        player.world = this;
+        players.add(player);
+        return player;
+    }
+
+    // the end of a server tick, what the SERVER_WORLD_POST handler runs after the block entities
+    public void tick() {
+        pulseScheduler.run(this);
+        effectScheduler.applyEffects(this);
+        time++;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return blocks.getBlockState(pos);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return blocks.getFluidState(pos);
+    }
+
+    @Override
+    public boolean setBlockState(BlockPos pos, BlockState state, int flags) {
+        blocks.set(pos, state);
+        return true;
+    }
+
+    @Override
+    public int getTopY(Heightmap.Type heightmap, int x, int z) {
+        return topY;
+    }
+
+    @Override
+    public long getTime() {
+        return time;
+    }
+
+    @Override
+    public boolean isChunkLoaded(BlockPos pos) {
+        return true;
+    }
+
+    @Override
+    public List<ServerPlayerEntity> getPlayers() {
+        return players;
+    }
+
+    @Override
+    public void playSound(@Nullable PlayerEntity player, double x, double y, double z, SoundEvent sound, SoundCategory category, float volume, float pitch) {
+    }
+
+    @Override
+    public NetheriteBeaconIndex getNetheriteBeaconIndex() {
+        return index;
+    }
+
+    @Override
+    public NetheriteBeaconEffectScheduler getNetheriteBeaconEffectScheduler() {
+        return effectScheduler;
+    }
+
+    @Override
+    public NetheriteBeaconPulseScheduler getNetheriteBeaconPulseScheduler() {
+        return pulseScheduler;
+    }
+}
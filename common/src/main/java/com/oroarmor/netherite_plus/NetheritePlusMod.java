@@ -25,30 +25,35 @@
 package com.oroarmor.netherite_plus;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 import com.oroarmor.config.ConfigItemGroup;
 import com.oroarmor.config.command.ConfigCommand;
 import com.oroarmor.multi_item_lib.UniqueItemRegistry;
 import com.oroarmor.netherite_plus.advancement.criterion.NetheritePlusCriteria;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconEffectScheduler;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconPulseScheduler;
+import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxAnimator;
 import com.oroarmor.netherite_plus.config.NetheritePlusConfig;
+import com.oroarmor.netherite_plus.config.NetheritePlusConfigSync;
+import com.oroarmor.netherite_plus.config.NetheritePlusConfigWatcher;
 import com.oroarmor.netherite_plus.entity.effect.NetheritePlusStatusEffects;
 import com.oroarmor.netherite_plus.item.NetheritePlusItems;
+import com.oroarmor.netherite_plus.network.ConnectedClients;
 import com.oroarmor.netherite_plus.network.UpdateNetheriteBeaconC2SPacket;
 import com.oroarmor.netherite_plus.recipe.NetheritePlusRecipeSerializer;
 import com.oroarmor.netherite_plus.screen.NetheriteBeaconScreenHandler;
 import com.oroarmor.netherite_plus.screen.NetheritePlusScreenHandlers;
 import com.oroarmor.netherite_plus.stat.NetheritePlusStats;
 import me.shedaniel.architectury.event.events.CommandRegistrationEvent;
+import me.shedaniel.architectury.event.events.TickEvent;
 import me.shedaniel.architectury.networking.NetworkManager;
 import me.shedaniel.architectury.registry.Registries;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.Lazy;
 
@@ -61,7 +66,7 @@ public class NetheritePlusMod {
 
     public static final String MOD_ID = "netherite_plus";
 
-    public static final List<PlayerEntity> CONNECTED_CLIENTS = new ArrayList<>();
+    public static final ConnectedClients CONNECTED_CLIENTS = new ConnectedClients();
 
     public static final Lazy<Registries> REGISTRIES = new Lazy<>(() -> Registries.get(MOD_ID));
 
@@ -74,6 +79,18 @@ public class NetheritePlusMod {
         NetheritePlusCriteria.init();
         NetheritePlusStats.init();
 
+        TickEvent.SERVER_WORLD_POST.register(world -> {
+            NetheriteBeaconPulseScheduler.get(world).run(world);
+            NetheriteBeaconEffectScheduler.get(world).applyEffects(world);
+            NetheriteShulkerBoxAnimator.get(world).tick(world);
+        });
+
+        TickEvent.SERVER_POST.register(NetheritePlusConfigSync::serverTick);
+
+        NetworkManager.registerReceiver(NetworkManager.Side.C2S, NetheritePlusConfigSync.REQUEST_ID, (friendlyByteBuf, packetContext) -> {
+            packetContext.queue(() -> NetheritePlusConfigSync.sendSnapshot((ServerPlayerEntity) packetContext.getPlayer()));
+        });
+
         NetworkManager.registerReceiver(NetworkManager.Side.C2S, UpdateNetheriteBeaconC2SPacket.ID, (friendlyByteBuf, packetContext) -> {
             UpdateNetheriteBeaconC2SPacket packet = new UpdateNetheriteBeaconC2SPacket();
             try {
@@ -93,6 +110,7 @@ public class NetheritePlusMod {
 
     private static void processConfig() {
         CONFIG.readConfigFromFile();
+        NetheritePlusConfigWatcher.start(NetheritePlusConfig.getConfigFile());
 
         if (NetheritePlusConfig.ENABLED.ENABLED_CONFIG_PRINT.getValue()) {
             CONFIG.getConfigs().stream().map(ConfigItemGroup::getConfigs).forEach(l -> l.forEach(ci -> LOGGER.log(Level.INFO, ci.toString())));
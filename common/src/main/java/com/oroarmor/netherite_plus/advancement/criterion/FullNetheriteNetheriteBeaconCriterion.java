@@ -72,7 +72,6 @@ public class FullNetheriteNetheriteBeaconCriterion extends AbstractCriterion<Ful
         }
 
         public boolean matches(NetheriteBeaconBlockEntity beacon) {
-            System.out.println(netheriteLevel.toJson());
             return netheriteLevel.test(beacon.getNetheriteLevel());
         }
 
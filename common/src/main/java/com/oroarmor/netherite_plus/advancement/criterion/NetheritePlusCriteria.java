@@ -24,9 +24,20 @@
 
 package com.oroarmor.netherite_plus.advancement.criterion;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.oroarmor.netherite_plus.mixin.AbstractCriterionAccessor;
+import com.oroarmor.netherite_plus.mixin.PlayerAdvancementTrackerAccessor;
 import me.shedaniel.architectury.registry.CriteriaTriggersRegistry;
 
+import net.minecraft.advancement.PlayerAdvancementTracker;
+import net.minecraft.advancement.criterion.AbstractCriterion;
 import net.minecraft.advancement.criterion.Criterion;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.Box;
+import net.minecraft.world.World;
 
 public class NetheritePlusCriteria {
     public static final FullNetheriteNetheriteBeaconCriterion FULL_NETHERITE_NETHERITE_BEACON = register(new FullNetheriteNetheriteBeaconCriterion());
@@ -39,4 +50,22 @@ public class NetheritePlusCriteria {
 
     public static void init() {
     }
+
+    public static List<ServerPlayerEntity> getListeningPlayers(AbstractCriterion<?> criterion, World world, Box box) {
+        // only players that have not completed every condition of the criterion are tracked
+        Iterable<PlayerAdvancementTracker> trackers = ((AbstractCriterionAccessor) criterion).getProgressions().keySet();
+        List<ServerPlayerEntity> players = null;
+
+        for (PlayerAdvancementTracker tracker : trackers) {
+            ServerPlayerEntity player = ((PlayerAdvancementTrackerAccessor) tracker).getOwner();
+            if (player != null && player.world == world && !player.isSpectator() && box.intersects(player.getBoundingBox())) {
+                if (players == null) {
+                    players = new ArrayList<>();
+                }
+                players.add(player);
+            }
+        }
+
+        return players == null ? Collections.emptyList() : players;
+    }
 }
@@ -24,8 +24,11 @@
 
 package com.oroarmor.netherite_plus.block;
 
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxBlockEntity;
 import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxBlockEntity.AnimationStage;
@@ -39,27 +42,23 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.mob.PiglinBrain;
 import net.minecraft.entity.mob.ShulkerLidCollisions;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.inventory.Inventories;
-import net.minecraft.inventory.Inventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemPlacementContext;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
 import net.minecraft.loot.context.LootContext;
 import net.minecraft.loot.context.LootContextParameters;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.screen.ScreenHandler;
 import net.minecraft.stat.Stats;
 import net.minecraft.state.StateManager;
 import net.minecraft.state.property.EnumProperty;
 import net.minecraft.text.LiteralText;
-import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
-import net.minecraft.text.TranslatableText;
 import net.minecraft.util.*;
-import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.util.registry.Registry;
 import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
 import net.minecraft.world.BlockView;
@@ -80,6 +79,13 @@ public class NetheriteShulkerBoxBlock extends BlockWithEntity {
         CONTENTS = new Identifier("contents");
     }
 
+    // built once registration completes since the suppliers only resolve after that, blocksByColor is indexed by dye id with the uncolored box last
+    private static volatile Block[] blocksByColor;
+    private static volatile Map<Block, DyeColor> colorsByBlock;
+    private static volatile Map<Item, DyeColor> colorsByItem;
+    // every item placing a shulker box of any kind, vanilla or from another mod, none of them may go inside a box
+    private static volatile Set<Item> shulkerBoxItems;
+
     private final DyeColor color;
 
     public NetheriteShulkerBoxBlock(DyeColor color, AbstractBlock.Settings settings) {
@@ -88,7 +94,50 @@ public class NetheriteShulkerBoxBlock extends BlockWithEntity {
         setDefaultState(stateManager.getDefaultState().with(FACING, Direction.UP));
     }
 
+    public static void buildColorTables() {
+        Block[] blocks = new Block[DyeColor.values().length + 1];
+        for (DyeColor color : DyeColor.values()) {
+            blocks[color.getId()] = lookup(color);
+        }
+        blocks[blocks.length - 1] = lookup(null);
+        buildColorTables(blocks);
+    }
+
+    static void buildColorTables(Block[] blocks) {
+        Map<Block, DyeColor> byBlock = new IdentityHashMap<>();
+        Map<Item, DyeColor> byItem = new IdentityHashMap<>();
+        for (int i = 0; i < blocks.length; i++) {
+            DyeColor color = i == blocks.length - 1 ? null : DyeColor.byId(i);
+            byBlock.put(blocks[i], color);
+            Item item = blocks[i].asItem();
+            if (item != Items.AIR) {
+                byItem.put(item, color);
+            }
+        }
+
+        Set<Item> boxItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Item item : Registry.ITEM) {
+            if (isShulkerBox(Block.getBlockFromItem(item))) {
+                boxItems.add(item);
+            }
+        }
+
+        colorsByBlock = byBlock;
+        colorsByItem = byItem;
+        shulkerBoxItems = boxItems;
+        blocksByColor = blocks;
+    }
+
     public static Block get(DyeColor dyeColor) {
+        Block[] blocks = blocksByColor;
+        if (blocks == null) {
+            return lookup(dyeColor);
+        }
+
+        return blocks[dyeColor == null ? blocks.length - 1 : dyeColor.getId()];
+    }
+
+    private static Block lookup(DyeColor dyeColor) {
         if (dyeColor == null) {
             return NetheritePlusBlocks.NETHERITE_SHULKER_BOX.get();
         }
@@ -131,12 +180,35 @@ public class NetheriteShulkerBoxBlock extends BlockWithEntity {
 
     @Environment(EnvType.CLIENT)
     public static DyeColor getColor(Block block) {
-        return block instanceof NetheriteShulkerBoxBlock ? ((NetheriteShulkerBoxBlock) block).getColor() : null;
+        Map<Block, DyeColor> colors = colorsByBlock;
+        if (colors == null) {
+            return block instanceof NetheriteShulkerBoxBlock ? ((NetheriteShulkerBoxBlock) block).getColor() : null;
+        }
+
+        return colors.get(block);
     }
 
     @Environment(EnvType.CLIENT)
     public static DyeColor getColor(Item item) {
-        return getColor(Block.getBlockFromItem(item));
+        Map<Item, DyeColor> colors = colorsByItem;
+        if (colors == null) {
+            return getColor(Block.getBlockFromItem(item));
+        }
+
+        return colors.get(item);
+    }
+
+    public static boolean isShulkerBox(Item item) {
+        Set<Item> items = shulkerBoxItems;
+        if (items == null) {
+            return isShulkerBox(Block.getBlockFromItem(item));
+        }
+
+        return items.contains(item);
+    }
+
+    private static boolean isShulkerBox(Block block) {
+        return block instanceof NetheriteShulkerBoxBlock || block instanceof ShulkerBoxBlock;
     }
 
     public static ItemStack getItemStack(DyeColor color) {
@@ -159,28 +231,7 @@ public class NetheriteShulkerBoxBlock extends BlockWithEntity {
             }
 
             if (compoundTag.contains("Items", 9)) {
-                DefaultedList<ItemStack> defaultedList = DefaultedList.ofSize(numberOfSlots, ItemStack.EMPTY);
-                Inventories.fromTag(compoundTag, defaultedList);
-                int i = 0;
-                int j = 0;
-                Iterator<ItemStack> var9 = defaultedList.iterator();
-
-                while (var9.hasNext()) {
-                    ItemStack itemStack = var9.next();
-                    if (!itemStack.isEmpty()) {
-                        ++j;
-                        if (i <= 4) {
-                            ++i;
-                            MutableText mutableText = itemStack.getName().shallowCopy();
-                            mutableText.append(" x").append(String.valueOf(itemStack.getCount()));
-                            tooltip.add(mutableText);
-                        }
-                    }
-                }
-
-                if (j - i > 0) {
-                    tooltip.add(new TranslatableText("container.shulkerBox.more", j - i).formatted(Formatting.ITALIC));
-                }
+                tooltip.addAll(NetheriteShulkerBoxTooltipCache.getLines(compoundTag, numberOfSlots));
             }
         }
 
@@ -197,7 +248,8 @@ public class NetheriteShulkerBoxBlock extends BlockWithEntity {
 
     @Override
     public int getComparatorOutput(BlockState state, World world, BlockPos pos) {
-        return ScreenHandler.calculateComparatorOutput((Inventory) world.getBlockEntity(pos));
+        BlockEntity blockEntity = world.getBlockEntity(pos);
+        return blockEntity instanceof NetheriteShulkerBoxBlockEntity ? ((NetheriteShulkerBoxBlockEntity) blockEntity).getComparatorOutput() : 0;
     }
 
     @Override
@@ -245,6 +297,7 @@ public class NetheriteShulkerBoxBlock extends BlockWithEntity {
         return getDefaultState().with(FACING, ctx.getSide());
     }
 
+    // the client may still draw a closed box from the chunk mesh, see BlockRenderManagerMixin
     @Override
     public BlockRenderType getRenderType(BlockState state) {
         return BlockRenderType.ENTITYBLOCK_ANIMATED;
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+
+public final class NetheriteShulkerBoxContents {
+    private NetheriteShulkerBoxContents() {
+    }
+
+    // the "Items" list of a box is never edited in place, every change writes a new list,
+    // so the block entity and any number of item stacks can share it instead of deep copying the contents
+    public static CompoundTag copyTag(CompoundTag tag) {
+        CompoundTag copy = new CompoundTag();
+        for (String key : tag.getKeys()) {
+            Tag value = tag.get(key);
+            if (key.equals("BlockEntityTag") && value instanceof CompoundTag) {
+                copy.put(key, copyBlockEntityTag((CompoundTag) value));
+            } else {
+                copy.put(key, value.copy());
+            }
+        }
+        return copy;
+    }
+
+    private static CompoundTag copyBlockEntityTag(CompoundTag tag) {
+        CompoundTag copy = new CompoundTag();
+        for (String key : tag.getKeys()) {
+            Tag value = tag.get(key);
+            copy.put(key, key.equals("Items") ? value : value.copy());
+        }
+        return copy;
+    }
+}
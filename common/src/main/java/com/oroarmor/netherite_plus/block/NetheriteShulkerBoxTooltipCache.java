@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.text.MutableText;
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.collection.DefaultedList;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+@Environment(EnvType.CLIENT)
+public final class NetheriteShulkerBoxTooltipCache {
+    private static final int MAX_ENTRIES = 256;
+    private static final int SHOWN_STACKS = 5;
+
+    // keyed by the items list itself, a changed stack gets a new list from the server or from copy(), while recolored
+    // copies of an unchanged box share the list, see NetheriteShulkerBoxContents. a hit is still compared against a copy
+    // of the list it was built from, in case the list was edited in place
+    private static final Reference2ObjectLinkedOpenHashMap<ListTag, Entry> CACHE = new Reference2ObjectLinkedOpenHashMap<>();
+
+    private NetheriteShulkerBoxTooltipCache() {
+    }
+
+    public static List<Text> getLines(CompoundTag blockEntityTag, int numberOfSlots) {
+        ListTag items = blockEntityTag.getList("Items", 10);
+        Entry entry = CACHE.getAndMoveToLast(items);
+        if (entry == null || !entry.items.equals(items)) {
+            entry = new Entry(items.copy(), createLines(items, numberOfSlots));
+            CACHE.putAndMoveToLast(items, entry);
+            if (CACHE.size() > MAX_ENTRIES) {
+                CACHE.removeFirst();
+            }
+        }
+        return entry.lines;
+    }
+
+    // the list may be shared, and a stack keeps and post-processes the tag it is read from, so read from copies
+    private static List<Text> createLines(ListTag items, int numberOfSlots) {
+        DefaultedList<ItemStack> defaultedList = DefaultedList.ofSize(numberOfSlots, ItemStack.EMPTY);
+        for (int i = 0; i < items.size(); i++) {
+            CompoundTag itemTag = items.getCompound(i);
+            int slot = itemTag.getByte("Slot") & 255;
+            if (slot < numberOfSlots) {
+                defaultedList.set(slot, ItemStack.fromTag(itemTag.copy()));
+            }
+        }
+        List<Text> lines = new ArrayList<>(SHOWN_STACKS + 1);
+        int shown = 0;
+        int total = 0;
+
+        for (ItemStack itemStack : defaultedList) {
+            if (!itemStack.isEmpty()) {
+                ++total;
+                if (shown <= 4) {
+                    ++shown;
+                    MutableText mutableText = itemStack.getName().shallowCopy();
+                    mutableText.append(" x").append(String.valueOf(itemStack.getCount()));
+                    lines.add(mutableText);
+                }
+            }
+        }
+
+        if (total - shown > 0) {
+            lines.add(new TranslatableText("container.shulkerBox.more", total - shown).formatted(Formatting.ITALIC));
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    private static final class Entry {
+        private final ListTag items;
+        private final List<Text> lines;
+
+        private Entry(ListTag items, List<Text> lines) {
+            this.items = items;
+            this.lines = lines;
+        }
+    }
+}
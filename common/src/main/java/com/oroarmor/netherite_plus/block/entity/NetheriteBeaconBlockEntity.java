@@ -34,6 +34,8 @@ import com.google.common.collect.Lists;
 import com.oroarmor.netherite_plus.advancement.criterion.NetheritePlusCriteria;
 import com.oroarmor.netherite_plus.block.NetheritePlusBlocks;
 import com.oroarmor.netherite_plus.entity.effect.NetheritePlusStatusEffects;
+import com.oroarmor.netherite_plus.network.NetheriteBeaconSyncS2CPacket;
+import com.oroarmor.netherite_plus.network.S2CPacketEncoder;
 import com.oroarmor.netherite_plus.screen.NetheriteBeaconScreenHandler;
 import org.jetbrains.annotations.Nullable;
 
@@ -52,22 +54,25 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.ContainerLock;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.Packet;
 import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
 import net.minecraft.screen.NamedScreenHandlerFactory;
 import net.minecraft.screen.PropertyDelegate;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.screen.ScreenHandlerContext;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.state.property.Properties;
-import net.minecraft.tag.BlockTags;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.util.Tickable;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Direction;
 import net.minecraft.world.Heightmap;
 
 import net.fabricmc.api.EnvType;
@@ -83,11 +88,22 @@ public class NetheriteBeaconBlockEntity extends BlockEntity implements NamedScre
     }
 
     private final PropertyDelegate propertyDelegate;
+    private final NetheriteBeaconPyramid pyramid = new NetheriteBeaconPyramid();
+    private boolean pyramidTracked;
     private List<NetheriteBeaconBlockEntity.BeamSegment> beamSegments = Lists.newArrayList();
     private List<NetheriteBeaconBlockEntity.BeamSegment> field_19178 = Lists.newArrayList();
+    private final List<NetheriteBeaconBlockEntity.BeamSegment> segmentPool = Lists.newArrayList();
+    private final BlockPos.Mutable scanPos = new BlockPos.Mutable();
+    private boolean beamDirty = true;
+    // bumped on every finished scan, the two segment lists are refilled in place so their identity says nothing
+    private int beamScan;
+    private int pulsePhase = -1;
+    private boolean pulseQueued;
     private int beaconLevel;
     private int netheriteLevel;
     private int field_19179 = -1;
+    // fields changed since the last NetheriteBeaconSyncS2CPacket, see NetheriteBeaconSyncS2CPacket.LEVEL and friends
+    private int syncMask;
     @Nullable
     private StatusEffect primary;
     @Nullable
@@ -123,6 +139,7 @@ public class NetheriteBeaconBlockEntity extends BlockEntity implements NamedScre
                 switch (index) {
                     case 0:
                         beaconLevel = value;
+                        syncMask |= NetheriteBeaconSyncS2CPacket.LEVEL;
                         break;
                     case 1:
                         if (!NetheriteBeaconBlockEntity.this.world.isClient && !beamSegments.isEmpty()) {
@@ -130,11 +147,15 @@ public class NetheriteBeaconBlockEntity extends BlockEntity implements NamedScre
                         }
 
                         primary = NetheriteBeaconBlockEntity.getPotionEffectById(value);
+                        syncMask |= NetheriteBeaconSyncS2CPacket.EFFECTS;
                         break;
                     case 2:
                         secondary = NetheriteBeaconBlockEntity.getPotionEffectById(value);
+                        syncMask |= NetheriteBeaconSyncS2CPacket.EFFECTS;
+                        break;
                     case 3:
                         tertiary = NetheriteBeaconBlockEntity.getPotionEffectById(value);
+                        syncMask |= NetheriteBeaconSyncS2CPacket.EFFECTS;
                 }
 
             }
@@ -156,136 +177,179 @@ public class NetheriteBeaconBlockEntity extends BlockEntity implements NamedScre
         return netheriteLevel;
     }
 
+    public NetheriteBeaconPyramid getPyramid() {
+        return pyramid;
+    }
+
     @Override
     public void tick() {
+        if (!pyramidTracked) {
+            NetheriteBeaconIndex.get(world).add(this);
+            pyramid.markDirty();
+            beamDirty = true;
+            pyramidTracked = true;
+        }
+
         int i = pos.getX();
         int j = pos.getY();
         int k = pos.getZ();
-        BlockPos blockPos2;
-        if (field_19179 < j) {
-            blockPos2 = pos;
-            field_19178 = Lists.newArrayList();
-            field_19179 = blockPos2.getY() - 1;
-        } else {
-            blockPos2 = new BlockPos(i, field_19179 + 1, k);
+        if (field_19179 >= j || beamDirty) {
+            updateBeam(i, j, k);
         }
 
-        BeamSegment beamSegment = field_19178.isEmpty() ? null : field_19178.get(field_19178.size() - 1);
-        int l = this.world.getTopY(Heightmap.Type.WORLD_SURFACE, i, k);
+        if (pulsePhase < 0) {
+            pulsePhase = NetheriteBeaconPulseScheduler.getPhase(pos);
+        }
 
-        int n;
-        for (n = 0; n < 10 && blockPos2.getY() <= l; ++n) {
-            BlockState blockState = world.getBlockState(blockPos2);
-            Block block = blockState.getBlock();
-            if (block instanceof Stainable) {
-                float[] fs = ((Stainable) block).getColor().getColorComponents();
-                if (field_19178.size() <= 1) {
-                    beamSegment = new BeamSegment(fs);
-                    field_19178.add(beamSegment);
-                } else if (beamSegment != null) {
-                    if (Arrays.equals(fs, beamSegment.color)) {
-                        beamSegment.increaseHeight();
-                    } else {
-                        beamSegment = new BeamSegment(new float[]{(beamSegment.color[0] + fs[0]) / 2.0F, (beamSegment.color[1] + fs[1]) / 2.0F, (beamSegment.color[2] + fs[2]) / 2.0F});
-                        field_19178.add(beamSegment);
-                    }
-                }
-            } else {
-                if (beamSegment == null || blockState.getOpacity(world, blockPos2) >= 15 && block != Blocks.BEDROCK) {
-                    field_19178.clear();
-                    field_19179 = l;
-                    break;
-                }
+        // the client is told the level by the server instead of measuring the pyramid itself
+        if (!world.isClient && !pulseQueued && NetheriteBeaconPulseScheduler.isPulseTick(world.getTime(), pulsePhase)) {
+            pulseQueued = true;
+            NetheriteBeaconPulseScheduler.get(world).enqueue(this);
+        }
 
-                beamSegment.increaseHeight();
-            }
+        if (syncMask != 0 && !world.isClient) {
+            sync();
+        }
 
-            blockPos2 = blockPos2.up();
-            ++field_19179;
+        boolean powered = beaconLevel > 0;
+        BlockState state = world.getBlockState(pos);
+        if (state.contains(Properties.POWERED) && state.get(Properties.POWERED) != powered) {
+            world.setBlockState(pos, state.with(Properties.POWERED, powered), 2);
         }
+    }
 
-        n = beaconLevel;
-        if (world.getTime() % 80L == 0L) {
-            if (!beamSegments.isEmpty()) {
-                updateLevel(i, j, k);
-                if (netheriteLevel == 164) {
-                    List<ServerPlayerEntity> var14 = world.getNonSpectatingEntities(ServerPlayerEntity.class, new Box(i, j, k, i, j - 4, k).expand(10.0D, 5.0D, 10.0D));
+    public void pulse() {
+        pulseQueued = false;
+        int i = pos.getX();
+        int j = pos.getY();
+        int k = pos.getZ();
+        if (!beamSegments.isEmpty()) {
+            boolean wasActive = beaconLevel > 0;
+            int oldLevel = beaconLevel;
+            int oldNetheriteLevel = netheriteLevel;
+            updateLevel();
+            if (beaconLevel != oldLevel) {
+                syncMask |= NetheriteBeaconSyncS2CPacket.LEVEL;
+            }
+            if (netheriteLevel != oldNetheriteLevel) {
+                syncMask |= NetheriteBeaconSyncS2CPacket.NETHERITE_LEVEL;
+            }
+            if (!world.isClient) {
+                boolean active = beaconLevel > 0;
+                if (!wasActive && active) {
+                    playSound(SoundEvents.BLOCK_BEACON_ACTIVATE);
+                } else if (wasActive && !active) {
+                    playSound(SoundEvents.BLOCK_BEACON_DEACTIVATE);
+                }
+            }
 
-                    for (ServerPlayerEntity serverPlayerEntity : var14) {
+            if (!world.isClient && (netheriteLevel == 164 || beaconLevel == 4)) {
+                Box criteriaBox = new Box(i, j, k, i, j - 4, k).expand(10.0D, 5.0D, 10.0D);
+
+                if (netheriteLevel == 164) {
+                    for (ServerPlayerEntity serverPlayerEntity : NetheritePlusCriteria.getListeningPlayers(NetheritePlusCriteria.FULL_NETHERITE_NETHERITE_BEACON, world, criteriaBox)) {
                         NetheritePlusCriteria.FULL_NETHERITE_NETHERITE_BEACON.trigger(serverPlayerEntity, this);
                     }
-
                 }
 
                 if (beaconLevel == 4) {
-                    List<ServerPlayerEntity> var14 = world.getNonSpectatingEntities(ServerPlayerEntity.class, new Box(i, j, k, i, j - 4, k).expand(10.0D, 5.0D, 10.0D));
-
-                    for (ServerPlayerEntity serverPlayerEntity : var14) {
+                    for (ServerPlayerEntity serverPlayerEntity : NetheritePlusCriteria.getListeningPlayers(NetheritePlusCriteria.CONSTRUCT_NETHERITE_BEACON, world, criteriaBox)) {
                         NetheritePlusCriteria.CONSTRUCT_NETHERITE_BEACON.trigger(serverPlayerEntity, this);
                     }
                 }
             }
-
-            if (beaconLevel > 0 && !beamSegments.isEmpty()) {
-                applyPlayerEffects();
-                playSound(SoundEvents.BLOCK_BEACON_AMBIENT);
-            }
         }
 
-        if (field_19179 >= l) {
-            field_19179 = -1;
-            boolean bl = n > 0;
-            beamSegments = field_19178;
-            if (!world.isClient) {
-                boolean bl2 = beaconLevel > 0;
-                if (!bl && bl2) {
-                    playSound(SoundEvents.BLOCK_BEACON_ACTIVATE);
-                } else if (bl && !bl2) {
-                    playSound(SoundEvents.BLOCK_BEACON_DEACTIVATE);
-                }
-            }
+        if (beaconLevel > 0 && !beamSegments.isEmpty()) {
+            applyPlayerEffects();
+            playSound(SoundEvents.BLOCK_BEACON_AMBIENT);
         }
-
-        this.getWorld().setBlockState(this.pos, this.getWorld().getBlockState(this.pos).with(Properties.POWERED, this.beaconLevel > 0), 2);
     }
 
-    private void updateLevel(int x, int y, int z) {
-        beaconLevel = 0;
-        netheriteLevel = 0;
+    public void markBeamDirty() {
+        beamDirty = true;
+    }
 
-        for (int i = 1; i <= 4; beaconLevel = i++) {
-            int j = y - i;
-            if (j < 0) {
-                break;
-            }
+    private void updateBeam(int x, int y, int z) {
+        if (field_19179 < y) {
+            beamDirty = false;
+            recycleSegments(field_19178);
+            field_19179 = y - 1;
+        }
 
-            boolean bl = true;
+        scanPos.set(x, field_19179 + 1, z);
+        BeamSegment beamSegment = field_19178.isEmpty() ? null : field_19178.get(field_19178.size() - 1);
+        int top = world.getTopY(Heightmap.Type.WORLD_SURFACE, x, z);
 
-            for (int k = x - i; k <= x + i && bl; ++k) {
-                for (int l = z - i; l <= z + i; ++l) {
-                    if (world.getBlockState(new BlockPos(k, j, l)).getBlock() == Blocks.NETHERITE_BLOCK) {
-                        netheriteLevel++;
-                    }
-                    if (!world.getBlockState(new BlockPos(k, j, l)).isIn(BlockTags.BEACON_BASE_BLOCKS)) {
-                        bl = false;
-                        break;
+        for (int n = 0; n < 10 && scanPos.getY() <= top; ++n) {
+            BlockState blockState = world.getBlockState(scanPos);
+            Block block = blockState.getBlock();
+            if (block instanceof Stainable) {
+                float[] fs = ((Stainable) block).getColor().getColorComponents();
+                if (field_19178.size() <= 1) {
+                    beamSegment = nextSegment(fs[0], fs[1], fs[2]);
+                } else if (beamSegment != null) {
+                    if (Arrays.equals(fs, beamSegment.color)) {
+                        beamSegment.increaseHeight();
+                    } else {
+                        beamSegment = nextSegment((beamSegment.color[0] + fs[0]) / 2.0F, (beamSegment.color[1] + fs[1]) / 2.0F, (beamSegment.color[2] + fs[2]) / 2.0F);
                     }
                 }
-            }
+            } else {
+                if (beamSegment == null || blockState.getOpacity(world, scanPos) >= 15 && block != Blocks.BEDROCK) {
+                    recycleSegments(field_19178);
+                    field_19179 = top;
+                    break;
+                }
 
-            if (!bl) {
-                break;
+                beamSegment.increaseHeight();
             }
+
+            scanPos.move(Direction.UP);
+            ++field_19179;
         }
 
+        if (field_19179 >= top) {
+            field_19179 = -1;
+            List<BeamSegment> finished = field_19178;
+            field_19178 = beamSegments;
+            beamSegments = finished;
+            beamScan++;
+        }
+    }
+
+    private BeamSegment nextSegment(float red, float green, float blue) {
+        BeamSegment segment = segmentPool.isEmpty() ? new BeamSegment(new float[3]) : segmentPool.remove(segmentPool.size() - 1);
+        segment.reset(red, green, blue);
+        field_19178.add(segment);
+        return segment;
+    }
+
+    private void recycleSegments(List<BeamSegment> segments) {
+        segmentPool.addAll(segments);
+        segments.clear();
+    }
+
+    private void updateLevel() {
+        pyramid.update(world, pos);
+        beaconLevel = pyramid.getLevel();
+        netheriteLevel = pyramid.getNetheriteLevel();
     }
 
     @Override
     public void markRemoved() {
         playSound(SoundEvents.BLOCK_BEACON_DEACTIVATE);
+        untrackPyramid();
         super.markRemoved();
     }
 
+    public void untrackPyramid() {
+        if (pyramidTracked) {
+            NetheriteBeaconIndex.get(world).remove(this);
+            pyramidTracked = false;
+        }
+    }
+
     private void applyPlayerEffects() {
         if (!world.isClient && primary != null) {
             double effectBoundingBox = beaconLevel * 10 + 10;
@@ -308,17 +372,14 @@ public class NetheriteBeaconBlockEntity extends BlockEntity implements NamedScre
 
             int effectLength = (9 + beaconLevel * 3) * 20;
             Box box = new Box(pos).expand(effectBoundingBox).stretch(0.0D, world.getHeight(), 0.0D);
-            List<PlayerEntity> list = world.getNonSpectatingEntities(PlayerEntity.class, box);
-
-            for (PlayerEntity player : list) {
-                player.addStatusEffect(new StatusEffectInstance(primary, effectLength, primaryEffectLevel, true, true));
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.FIRE_RESISTANCE, effectLength, 0, true, true));
-                player.addStatusEffect(new StatusEffectInstance(NetheritePlusStatusEffects.LAVA_VISION.get(), effectLength, Math.min(netheriteLevel, 127), true, true));
-
-                // regeneration case
-                if (beaconLevel >= 4 && primary != secondary && secondary != null) {
-                    player.addStatusEffect(new StatusEffectInstance(secondary, effectLength, secondaryEffectLevel, true, true));
-                }
+            NetheriteBeaconEffectScheduler.Pulse pulse = NetheriteBeaconEffectScheduler.get(world).schedule(box, effectLength)
+                    .add(primary, primaryEffectLevel)
+                    .add(StatusEffects.FIRE_RESISTANCE, 0)
+                    .add(NetheritePlusStatusEffects.LAVA_VISION.get(), Math.min(netheriteLevel, 127));
+
+            // regeneration case
+            if (beaconLevel >= 4 && primary != secondary && secondary != null) {
+                pulse.add(secondary, secondaryEffectLevel);
             }
 
             if (tertiary == StatusEffects.GLOWING) {
@@ -340,19 +401,55 @@ public class NetheriteBeaconBlockEntity extends BlockEntity implements NamedScre
         return beaconLevel == 0 ? ImmutableList.of() : beamSegments;
     }
 
+    @Environment(EnvType.CLIENT)
+    public int getBeamScan() {
+        return beamScan;
+    }
+
     public int getBeaconLevel() {
         return beaconLevel;
     }
 
+    private void sync() {
+        NetheriteBeaconSyncS2CPacket packet = new NetheriteBeaconSyncS2CPacket(pos, syncMask, beaconLevel, netheriteLevel, StatusEffect.getRawId(primary), StatusEffect.getRawId(secondary), StatusEffect.getRawId(tertiary));
+        syncMask = 0;
+
+        Packet<?> encoded = S2CPacketEncoder.encode(NetheriteBeaconSyncS2CPacket.ID, packet);
+        ((ServerWorld) world).getChunkManager().threadedAnvilChunkStorage.getPlayersWatchingChunk(new ChunkPos(pos), false).forEach(player -> player.networkHandler.sendPacket(encoded));
+    }
+
+    @Environment(EnvType.CLIENT)
+    public void onSync(NetheriteBeaconSyncS2CPacket packet) {
+        if (packet.hasChanged(NetheriteBeaconSyncS2CPacket.LEVEL)) {
+            beaconLevel = packet.getLevel();
+        }
+        if (packet.hasChanged(NetheriteBeaconSyncS2CPacket.NETHERITE_LEVEL)) {
+            netheriteLevel = packet.getNetheriteLevel();
+        }
+        if (packet.hasChanged(NetheriteBeaconSyncS2CPacket.EFFECTS)) {
+            primary = getPotionEffectById(packet.getPrimaryEffectId());
+            secondary = getPotionEffectById(packet.getSecondaryEffectId());
+            tertiary = getPotionEffectById(packet.getTertiaryEffectId());
+        }
+    }
+
+    // changes reach the client through sync(), so block updates no longer resend the whole tag
     @Override
     @Nullable
     public BlockEntityUpdateS2CPacket toUpdatePacket() {
-        return new BlockEntityUpdateS2CPacket(pos, 3, toInitialChunkDataTag());
+        return null;
     }
 
+    // the custom name and lock stay on the server, the client only needs what sync() would send
     @Override
     public CompoundTag toInitialChunkDataTag() {
-        return toTag(new CompoundTag());
+        CompoundTag tag = super.toTag(new CompoundTag());
+        tag.putInt("Primary", StatusEffect.getRawId(primary));
+        tag.putInt("Secondary", StatusEffect.getRawId(secondary));
+        tag.putInt("Tertiary", StatusEffect.getRawId(tertiary));
+        tag.putInt("Levels", beaconLevel);
+        tag.putInt("NetheriteLevel", netheriteLevel);
+        return tag;
     }
 
     @Override
@@ -367,6 +464,7 @@ public class NetheriteBeaconBlockEntity extends BlockEntity implements NamedScre
         primary = getPotionEffectById(tag.getInt("Primary"));
         secondary = getPotionEffectById(tag.getInt("Secondary"));
         tertiary = getPotionEffectById(tag.getInt("Tertiary"));
+        beaconLevel = tag.getInt("Levels");
         netheriteLevel = tag.getInt("NetheriteLevel");
         if (tag.contains("CustomName", 8)) {
             customName = Text.Serializer.fromJson(tag.getString("CustomName"));
@@ -415,6 +513,13 @@ public class NetheriteBeaconBlockEntity extends BlockEntity implements NamedScre
             height = 1;
         }
 
+        protected void reset(float red, float green, float blue) {
+            color[0] = red;
+            color[1] = green;
+            color[2] = blue;
+            height = 1;
+        }
+
         protected void increaseHeight() {
             ++height;
         }
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oroarmor.netherite_plus.world.NetheriteBeaconWorld;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+public class NetheriteBeaconEffectScheduler {
+    private final List<Pulse> pulses = new ArrayList<>();
+    private int pulseCount;
+
+    private final Long2ObjectMap<List<PlayerEntity>> playersByChunk = new Long2ObjectOpenHashMap<>();
+    private final List<List<PlayerEntity>> playerListPool = new ArrayList<>();
+    private final Reference2ObjectMap<PlayerEntity, Reference2LongMap<StatusEffect>> effectsByPlayer = new Reference2ObjectOpenHashMap<>();
+    private final List<Reference2LongMap<StatusEffect>> effectMapPool = new ArrayList<>();
+
+    public static NetheriteBeaconEffectScheduler get(World world) {
+        return ((NetheriteBeaconWorld) world).getNetheriteBeaconEffectScheduler();
+    }
+
+    public Pulse schedule(Box box, int duration) {
+        Pulse pulse;
+        if (pulseCount < pulses.size()) {
+            pulse = pulses.get(pulseCount);
+        } else {
+            pulse = new Pulse();
+            pulses.add(pulse);
+        }
+        pulseCount++;
+        pulse.reset(box, duration);
+        return pulse;
+    }
+
+    public void applyEffects(ServerWorld world) {
+        if (pulseCount == 0) {
+            return;
+        }
+
+        List<ServerPlayerEntity> players = world.getPlayers();
+        if (!players.isEmpty()) {
+            indexPlayers(players);
+
+            for (int i = 0; i < pulseCount; i++) {
+                collectEffects(pulses.get(i));
+            }
+
+            effectsByPlayer.forEach((player, effects) -> {
+                for (Reference2LongMap.Entry<StatusEffect> entry : effects.reference2LongEntrySet()) {
+                    long strength = entry.getLongValue();
+                    player.addStatusEffect(new StatusEffectInstance(entry.getKey(), (int) strength, (int) (strength >>> 32), true, true));
+                }
+                effects.clear();
+                effectMapPool.add(effects);
+            });
+
+            effectsByPlayer.clear();
+            playersByChunk.values().forEach(list -> {
+                list.clear();
+                playerListPool.add(list);
+            });
+            playersByChunk.clear();
+        }
+
+        for (int i = 0; i < pulseCount; i++) {
+            pulses.get(i).box = null;
+        }
+        pulseCount = 0;
+    }
+
+    private void indexPlayers(List<ServerPlayerEntity> players) {
+        for (int i = 0; i < players.size(); i++) {
+            ServerPlayerEntity player = players.get(i);
+            if (player.isSpectator()) {
+                continue;
+            }
+
+            long key = ChunkPos.toLong(MathHelper.floor(player.getX()) >> 4, MathHelper.floor(player.getZ()) >> 4);
+            List<PlayerEntity> list = playersByChunk.get(key);
+            if (list == null) {
+                list = playerListPool.isEmpty() ? new ArrayList<>() : playerListPool.remove(playerListPool.size() - 1);
+                playersByChunk.put(key, list);
+            }
+            list.add(player);
+        }
+    }
+
+    private void collectEffects(Pulse pulse) {
+        Box box = pulse.box;
+        // players are bucketed by their position, so widen by one block to catch bounding boxes overlapping the edge
+        int minChunkX = ((int) Math.floor(box.minX) - 1) >> 4;
+        int maxChunkX = ((int) Math.floor(box.maxX) + 1) >> 4;
+        int minChunkZ = ((int) Math.floor(box.minZ) - 1) >> 4;
+        int maxChunkZ = ((int) Math.floor(box.maxZ) + 1) >> 4;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<PlayerEntity> players = playersByChunk.get(ChunkPos.toLong(chunkX, chunkZ));
+                if (players == null) {
+                    continue;
+                }
+
+                for (int i = 0; i < players.size(); i++) {
+                    PlayerEntity player = players.get(i);
+                    if (box.intersects(player.getBoundingBox())) {
+                        Reference2LongMap<StatusEffect> effects = effectsByPlayer.get(player);
+                        if (effects == null) {
+                            if (effectMapPool.isEmpty()) {
+                                effects = new Reference2LongOpenHashMap<>();
+                                effects.defaultReturnValue(-1L);
+                            } else {
+                                effects = effectMapPool.remove(effectMapPool.size() - 1);
+                            }
+                            effectsByPlayer.put(player, effects);
+                        }
+
+                        for (int j = 0; j < pulse.effectCount; j++) {
+                            // amplifier in the high bits, duration in the low bits: the larger value is the stronger instance
+                            long strength = ((long) pulse.amplifiers[j] << 32) | pulse.duration;
+                            if (strength > effects.getLong(pulse.effects[j])) {
+                                effects.put(pulse.effects[j], strength);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public static class Pulse {
+        private final StatusEffect[] effects = new StatusEffect[4];
+        private final int[] amplifiers = new int[4];
+        private int effectCount;
+        private Box box;
+        private int duration;
+
+        private void reset(Box box, int duration) {
+            this.box = box;
+            this.duration = duration;
+            effectCount = 0;
+        }
+
+        public Pulse add(StatusEffect effect, int amplifier) {
+            effects[effectCount] = effect;
+            amplifiers[effectCount] = amplifier;
+            effectCount++;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oroarmor.netherite_plus.world.NetheriteBeaconWorld;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+
+public class NetheriteBeaconIndex {
+    private final Long2ObjectMap<List<NetheriteBeaconBlockEntity>> beaconsBySection = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<List<NetheriteBeaconBlockEntity>> beaconsByColumn = new Long2ObjectOpenHashMap<>();
+
+    public static NetheriteBeaconIndex get(World world) {
+        return ((NetheriteBeaconWorld) world).getNetheriteBeaconIndex();
+    }
+
+    // an unloading chunk drops its block entities without markRemoved, so the beacons in it are taken out here
+    public static void onChunkUnloaded(WorldChunk chunk) {
+        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            if (blockEntity instanceof NetheriteBeaconBlockEntity) {
+                ((NetheriteBeaconBlockEntity) blockEntity).untrackPyramid();
+            }
+        }
+    }
+
+    public void add(NetheriteBeaconBlockEntity beacon) {
+        BlockPos pos = beacon.getPos();
+        forEachSection(pos, key -> addTo(beaconsBySection, key, beacon));
+        addTo(beaconsByColumn, columnKey(pos.getX(), pos.getZ()), beacon);
+    }
+
+    public void remove(NetheriteBeaconBlockEntity beacon) {
+        BlockPos pos = beacon.getPos();
+        forEachSection(pos, key -> removeFrom(beaconsBySection, key, beacon));
+        removeFrom(beaconsByColumn, columnKey(pos.getX(), pos.getZ()), beacon);
+    }
+
+    public void onBlockChanged(BlockPos pos) {
+        if (beaconsByColumn.isEmpty()) {
+            return;
+        }
+
+        List<NetheriteBeaconBlockEntity> beacons = beaconsBySection.get(ChunkSectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        if (beacons != null) {
+            for (int i = 0; i < beacons.size(); i++) {
+                NetheriteBeaconBlockEntity beacon = beacons.get(i);
+                if (NetheriteBeaconPyramid.isInPyramid(beacon.getPos(), pos.getX(), pos.getY(), pos.getZ())) {
+                    beacon.getPyramid().markDirty();
+                }
+            }
+        }
+
+        beacons = beaconsByColumn.get(columnKey(pos.getX(), pos.getZ()));
+        if (beacons != null) {
+            for (int i = 0; i < beacons.size(); i++) {
+                NetheriteBeaconBlockEntity beacon = beacons.get(i);
+                if (pos.getY() > beacon.getPos().getY()) {
+                    beacon.markBeamDirty();
+                }
+            }
+        }
+    }
+
+    private static void addTo(Long2ObjectMap<List<NetheriteBeaconBlockEntity>> map, long key, NetheriteBeaconBlockEntity beacon) {
+        List<NetheriteBeaconBlockEntity> beacons = map.computeIfAbsent(key, k -> new ArrayList<>(1));
+        // a reloaded chunk creates a new block entity at the same position, so replace the stale one
+        beacons.removeIf(other -> other == beacon || other.getPos().equals(beacon.getPos()));
+        beacons.add(beacon);
+    }
+
+    private static void removeFrom(Long2ObjectMap<List<NetheriteBeaconBlockEntity>> map, long key, NetheriteBeaconBlockEntity beacon) {
+        List<NetheriteBeaconBlockEntity> beacons = map.get(key);
+        if (beacons != null && beacons.remove(beacon) && beacons.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static long columnKey(int x, int z) {
+        return BlockPos.asLong(x, 0, z);
+    }
+
+    private static void forEachSection(BlockPos beaconPos, SectionConsumer consumer) {
+        int range = NetheriteBeaconPyramid.MAX_LEVEL;
+        int minX = (beaconPos.getX() - range) >> 4;
+        int maxX = (beaconPos.getX() + range) >> 4;
+        int minY = Math.max(beaconPos.getY() - range, 0) >> 4;
+        int maxY = Math.max(beaconPos.getY() - 1, 0) >> 4;
+        int minZ = (beaconPos.getZ() - range) >> 4;
+        int maxZ = (beaconPos.getZ() + range) >> 4;
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    consumer.accept(ChunkSectionPos.asLong(x, y, z));
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SectionConsumer {
+        void accept(long sectionKey);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block.entity;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import com.oroarmor.netherite_plus.config.NetheritePlusConfig;
+import com.oroarmor.netherite_plus.world.NetheriteBeaconWorld;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+public class NetheriteBeaconPulseScheduler {
+    public static final int PULSE_INTERVAL = 80;
+
+    private final Queue<NetheriteBeaconBlockEntity> queue = new ArrayDeque<>();
+
+    public static NetheriteBeaconPulseScheduler get(World world) {
+        return ((NetheriteBeaconWorld) world).getNetheriteBeaconPulseScheduler();
+    }
+
+    public static int getPhase(BlockPos pos) {
+        return (int) Math.floorMod(MathHelper.hashCode(pos.getX(), pos.getY(), pos.getZ()), (long) PULSE_INTERVAL);
+    }
+
+    public static boolean isPulseTick(long time, int phase) {
+        return (time + phase) % PULSE_INTERVAL == 0L;
+    }
+
+    public void enqueue(NetheriteBeaconBlockEntity beacon) {
+        queue.add(beacon);
+    }
+
+    public void run(World world) {
+        int budget = NetheritePlusConfig.BEACON.PULSES_PER_TICK.getInt();
+        int pulses = budget <= 0 ? queue.size() : budget;
+
+        NetheriteBeaconBlockEntity beacon;
+        while (pulses > 0 && (beacon = queue.poll()) != null) {
+            // the chunk may have unloaded while the pulse was waiting for budget
+            if (!beacon.isRemoved() && world.isChunkLoaded(beacon.getPos())) {
+                beacon.pulse();
+                pulses--;
+            }
+        }
+    }
+}
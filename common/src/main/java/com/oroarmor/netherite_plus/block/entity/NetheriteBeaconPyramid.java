@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block.entity;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.tag.BlockTags;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
+
+public class NetheriteBeaconPyramid {
+    public static final int MAX_LEVEL = 4;
+
+    private final BlockPos.Mutable scanPos = new BlockPos.Mutable();
+    private int level;
+    private int netheriteLevel;
+    private boolean dirty = true;
+
+    public static boolean isInPyramid(BlockPos beaconPos, int x, int y, int z) {
+        int layer = beaconPos.getY() - y;
+        if (layer < 1 || layer > MAX_LEVEL) {
+            return false;
+        }
+        return Math.abs(x - beaconPos.getX()) <= layer && Math.abs(z - beaconPos.getZ()) <= layer;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public boolean update(BlockView world, BlockPos beaconPos) {
+        if (!dirty) {
+            return false;
+        }
+        dirty = false;
+
+        int x = beaconPos.getX();
+        int y = beaconPos.getY();
+        int z = beaconPos.getZ();
+        int oldLevel = level;
+        int oldNetheriteLevel = netheriteLevel;
+
+        level = 0;
+        netheriteLevel = 0;
+
+        for (int i = 1; i <= MAX_LEVEL; level = i++) {
+            int j = y - i;
+            if (j < 0) {
+                break;
+            }
+
+            boolean complete = true;
+
+            for (int k = x - i; k <= x + i && complete; ++k) {
+                for (int l = z - i; l <= z + i; ++l) {
+                    BlockState state = world.getBlockState(scanPos.set(k, j, l));
+                    if (state.isOf(Blocks.NETHERITE_BLOCK)) {
+                        netheriteLevel++;
+                    }
+                    if (!state.isIn(BlockTags.BEACON_BASE_BLOCKS)) {
+                        complete = false;
+                        break;
+                    }
+                }
+            }
+
+            if (!complete) {
+                break;
+            }
+        }
+
+        return level != oldLevel || netheriteLevel != oldNetheriteLevel;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getNetheriteLevel() {
+        return netheriteLevel;
+    }
+}
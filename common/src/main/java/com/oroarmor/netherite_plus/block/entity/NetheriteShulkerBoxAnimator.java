@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oroarmor.netherite_plus.world.NetheriteShulkerBoxWorld;
+
+import net.minecraft.world.World;
+
+public class NetheriteShulkerBoxAnimator {
+    private final List<NetheriteShulkerBoxBlockEntity> animating = new ArrayList<>();
+
+    public static NetheriteShulkerBoxAnimator get(World world) {
+        return ((NetheriteShulkerBoxWorld) world).getNetheriteShulkerBoxAnimator();
+    }
+
+    public void add(NetheriteShulkerBoxBlockEntity shulkerBox) {
+        animating.add(shulkerBox);
+    }
+
+    public void tick(World world) {
+        int kept = 0;
+        for (int i = 0; i < animating.size(); i++) {
+            NetheriteShulkerBoxBlockEntity shulkerBox = animating.get(i);
+            // unloaded chunks do not mark their block entities removed, so check the chunk as well
+            if (shulkerBox.isRemoved() || !world.isChunkLoaded(shulkerBox.getPos())) {
+                shulkerBox.onAnimationStopped(false);
+            } else if (shulkerBox.tickAnimation()) {
+                animating.set(kept++, shulkerBox);
+            } else {
+                shulkerBox.onAnimationStopped(true);
+            }
+        }
+        animating.subList(kept, animating.size()).clear();
+    }
+}
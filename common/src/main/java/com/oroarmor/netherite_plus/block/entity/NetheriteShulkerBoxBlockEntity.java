@@ -29,17 +29,15 @@ import java.util.stream.IntStream;
 
 import com.oroarmor.netherite_plus.block.NetheritePlusBlocks;
 import com.oroarmor.netherite_plus.block.NetheriteShulkerBoxBlock;
+import org.jetbrains.annotations.Nullable;
 
-import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
-import net.minecraft.block.ShulkerBoxBlock;
 import net.minecraft.block.entity.LootableContainerBlockEntity;
 import net.minecraft.block.piston.PistonBehavior;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.MovementType;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
-import net.minecraft.inventory.Inventories;
 import net.minecraft.inventory.SidedInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
@@ -50,26 +48,32 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.util.DyeColor;
-import net.minecraft.util.Tickable;
 import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.util.collection.TypeFilterableList;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.shape.VoxelShapes;
+import net.minecraft.world.chunk.ChunkManager;
+import net.minecraft.world.chunk.WorldChunk;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 
-public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity implements SidedInventory, Tickable {
-    private static final int[] AVAILABLE_SLOTS = IntStream.range(0, 27).toArray();
-    private DefaultedList<ItemStack> inventory;
+public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity implements SidedInventory {
+    private static final int[] AVAILABLE_SLOTS = IntStream.range(0, NetheriteShulkerBoxInventory.SIZE).toArray();
+    private final NetheriteShulkerBoxInventory inventory = new NetheriteShulkerBoxInventory();
     private int viewerCount;
     private AnimationStage animationStage;
     private float animationProgress;
     private float prevAnimationProgress;
     private DyeColor cachedColor;
     private boolean cachedColorUpdateNeeded;
+    private boolean animating;
+    private Box pushBox;
+    private Direction pushBoxDirection;
+    private float pushBoxProgress;
 
     public NetheriteShulkerBoxBlockEntity() {
         this(null);
@@ -78,7 +82,6 @@ public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity
 
     public NetheriteShulkerBoxBlockEntity(DyeColor color) {
         super(NetheritePlusBlocks.NETHERITE_SHULKER_BOX_ENTITY.get());
-        inventory = DefaultedList.ofSize(27, ItemStack.EMPTY);
         animationStage = AnimationStage.CLOSED;
         cachedColor = color;
     }
@@ -90,8 +93,7 @@ public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity
 
     @Override
     public boolean canInsert(int slot, ItemStack stack, Direction dir) {
-        Block block = Block.getBlockFromItem(stack.getItem());
-        return !(block instanceof NetheriteShulkerBoxBlock) && !(block instanceof ShulkerBoxBlock);
+        return !NetheriteShulkerBoxBlock.isShulkerBox(stack.getItem());
     }
 
     @Override
@@ -100,11 +102,12 @@ public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity
     }
 
     public void deserializeInventory(CompoundTag tag) {
-        inventory = DefaultedList.ofSize(size(), ItemStack.EMPTY);
-        if (!deserializeLootTable(tag) && tag.contains("Items", 9)) {
-            Inventories.fromTag(tag, inventory);
+        // the items stay as raw nbt until something reads a slot, most loaded boxes are never opened
+        if (deserializeLootTable(tag)) {
+            inventory.setStacks(DefaultedList.ofSize(NetheriteShulkerBoxInventory.SIZE, ItemStack.EMPTY));
+        } else {
+            inventory.readTag(tag);
         }
-
     }
 
     @Override
@@ -157,12 +160,18 @@ public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity
 
     @Override
     protected DefaultedList<ItemStack> getInvStackList() {
-        return inventory;
+        return inventory.getStacks();
     }
 
     @Override
     protected void setInvStackList(DefaultedList<ItemStack> list) {
-        inventory = list;
+        inventory.setStacks(list);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkLootInteraction(null);
+        return inventory.isEmpty();
     }
 
     @Override
@@ -200,11 +209,17 @@ public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity
             if (data == 0) {
                 animationStage = AnimationStage.CLOSING;
                 updateNeighborStates();
+                startAnimating();
             }
 
             if (data == 1) {
+                boolean wasIdleClosed = isIdleClosed();
                 animationStage = AnimationStage.OPENING;
                 updateNeighborStates();
+                startAnimating();
+                if (wasIdleClosed) {
+                    rebuildMesh();
+                }
             }
 
             return true;
@@ -212,11 +227,53 @@ public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity
         return super.onSyncedBlockEvent(type, data);
     }
 
+    private Box getPushBox(Direction direction) {
+        float progress = getAnimationProgress(1.0F);
+        if (pushBox == null || pushBoxDirection != direction || pushBoxProgress != progress) {
+            pushBox = getCollisionBox(direction).offset(pos);
+            pushBoxDirection = direction;
+            pushBoxProgress = progress;
+        }
+        return pushBox;
+    }
+
+    // same chunk and section range as World.getOtherEntities, without building a list when nothing is there
+    private boolean hasEntitiesNear(Box box) {
+        int minChunkX = MathHelper.floor((box.minX - 2.0D) / 16.0D);
+        int maxChunkX = MathHelper.floor((box.maxX + 2.0D) / 16.0D);
+        int minChunkZ = MathHelper.floor((box.minZ - 2.0D) / 16.0D);
+        int maxChunkZ = MathHelper.floor((box.maxZ + 2.0D) / 16.0D);
+        ChunkManager chunkManager = world.getChunkManager();
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                WorldChunk chunk = chunkManager.getWorldChunk(chunkX, chunkZ, false);
+                if (chunk == null) {
+                    continue;
+                }
+
+                TypeFilterableList<Entity>[] sections = chunk.getEntitySectionArray();
+                int minY = MathHelper.clamp(MathHelper.floor((box.minY - 2.0D) / 16.0D), 0, sections.length - 1);
+                int maxY = MathHelper.clamp(MathHelper.floor((box.maxY + 2.0D) / 16.0D), 0, sections.length - 1);
+                for (int y = minY; y <= maxY; y++) {
+                    if (!sections[y].isEmpty()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     private void pushEntities() {
-        BlockState blockState = world.getBlockState(getPos());
+        BlockState blockState = getCachedState();
         if (blockState.getBlock() instanceof NetheriteShulkerBoxBlock) {
             Direction direction = blockState.get(NetheriteShulkerBoxBlock.FACING);
-            Box box = getCollisionBox(direction).offset(pos);
+            Box box = getPushBox(direction);
+            if (!hasEntitiesNear(box)) {
+                return;
+            }
+
             List<Entity> list = world.getOtherEntities(null, box);
             if (!list.isEmpty()) {
                 for (int i = 0; i < list.size(); ++i) {
@@ -265,15 +322,80 @@ public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity
 
     public CompoundTag serializeInventory(CompoundTag tag) {
         if (!serializeLootTable(tag)) {
-            Inventories.toTag(tag, inventory, false);
+            inventory.writeTag(tag);
         }
 
         return tag;
     }
 
+    // callers may edit the returned stack in place and only call markDirty afterwards
+    @Override
+    public ItemStack getStack(int slot) {
+        ItemStack stack = super.getStack(slot);
+        inventory.markSlotDirty(slot);
+        return stack;
+    }
+
+    // the super methods call markDirty before returning, so the slot is flagged for it first
     @Override
     public void setStack(int slot, ItemStack stack) {
+        inventory.markSlotDirty(slot);
         super.setStack(slot, stack);
+        inventory.onSlotChanged(slot);
+    }
+
+    @Override
+    public ItemStack removeStack(int slot, int amount) {
+        inventory.markSlotDirty(slot);
+        ItemStack stack = super.removeStack(slot, amount);
+        inventory.onSlotChanged(slot);
+        return stack;
+    }
+
+    @Override
+    public ItemStack removeStack(int slot) {
+        ItemStack stack = super.removeStack(slot);
+        inventory.onSlotChanged(slot);
+        return stack;
+    }
+
+    // bulk insert used for hoppers and droppers, the insert verdict is resolved once per call instead of once per slot
+    public ItemStack insert(ItemStack stack, @Nullable Direction side) {
+        checkLootInteraction(null);
+        // HopperBlockEntity.canInsert asks both even without a side, and neither depends on the slot here
+        if (stack.isEmpty() || !isValid(0, stack) || !canInsert(0, stack, side)) {
+            return stack;
+        }
+
+        int count = stack.getCount();
+        ItemStack remaining = inventory.insert(stack);
+        if (remaining.isEmpty() || remaining.getCount() != count) {
+            markDirty();
+        }
+        return remaining;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        inventory.onCleared();
+    }
+
+    public int getComparatorOutput() {
+        checkLootInteraction(null);
+        return inventory.getComparatorOutput();
+    }
+
+    @Override
+    public void markDirty() {
+        if (world != null) {
+            resetBlock();
+            world.markDirty(pos, this);
+            // comparators only need a block update when the fill level actually moved
+            if (inventory.refreshComparatorOutput() && !getCachedState().isAir()) {
+                world.updateComparators(pos, getCachedState().getBlock());
+            }
+        }
     }
 
     @Override
@@ -285,13 +407,42 @@ public class NetheriteShulkerBoxBlockEntity extends LootableContainerBlockEntity
         return animationStage == AnimationStage.CLOSED;
     }
 
-    @Override
-    public void tick() {
+    // idle boxes are not ticked at all, the animator only runs the ones a block event started moving
+    private void startAnimating() {
+        if (!animating && world != null) {
+            animating = true;
+            NetheriteShulkerBoxAnimator.get(world).add(this);
+        }
+    }
+
+    void onAnimationStopped(boolean settled) {
+        animating = false;
+        if (settled && animationStage == AnimationStage.CLOSED) {
+            rebuildMesh();
+        }
+    }
+
+    public boolean isIdleClosed() {
+        return animationStage == AnimationStage.CLOSED && prevAnimationProgress == animationProgress;
+    }
+
+    // a client may draw boxes at rest from the chunk mesh, see BlockRenderManagerMixin, so the section is rebuilt on
+    // the spot whenever a box leaves rest or settles back into it. the block state itself never changes
+    private void rebuildMesh() {
+        if (world != null && world.isClient) {
+            world.updateListeners(pos, getCachedState(), getCachedState(), 8);
+        }
+    }
+
+    boolean tickAnimation() {
         updateAnimation();
         if (animationStage == AnimationStage.OPENING || animationStage == AnimationStage.CLOSING) {
             pushEntities();
+            return true;
         }
 
+        // keep going one more tick so the previous progress catches up and the lid stops interpolating
+        return prevAnimationProgress != animationProgress;
     }
 
     @Override
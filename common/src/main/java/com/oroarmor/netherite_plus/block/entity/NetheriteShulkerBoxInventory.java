@@ -0,0 +1,304 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block.entity;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.inventory.Inventories;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.util.math.MathHelper;
+
+public class NetheriteShulkerBoxInventory {
+    public static final int SIZE = 27;
+    private static final int MAX_COUNT_PER_STACK = 64;
+
+    // until the first access only the filled slots exist, as raw entries; once parsed every empty slot points at
+    // ItemStack.EMPTY, vanilla container code indexes the list directly so it is not made sparse beyond that
+    @Nullable
+    private DefaultedList<ItemStack> stacks;
+    @Nullable
+    private ListTag pendingItems;
+    // whether pendingItems was also handed to an item or chunk tag, see NetheriteShulkerBoxContents
+    private boolean pendingItemsShared;
+
+    // slot state for comparators and inserts, only allocated once the stacks are parsed
+    private ItemStack[] trackedStacks;
+    private int[] trackedCounts;
+    // stacks emptied in place report air, so remember what they were counted under
+    private Item[] trackedItems;
+    private int[] trackedMaxCounts;
+    // bit masks of the slots holding each item and of the empty slots
+    private Reference2IntMap<Item> slotsByItem;
+    private int emptySlots;
+    // item counts bucketed by the max count they are divided by, keeps the fill level exact
+    private int[] countsByMaxCount;
+    private int nonEmptySlots;
+    // slots that may differ from what is tracked: handed out by getStack, where callers can edit them in place, or
+    // being replaced right now. anything else changes through insert or onSlotChanged, which track it themselves
+    private int dirtySlots;
+    private int comparatorOutput;
+    private int reportedComparatorOutput;
+
+    public void readTag(CompoundTag tag) {
+        stacks = null;
+        trackedStacks = null;
+        pendingItems = tag.contains("Items", 9) ? tag.getList("Items", 10) : null;
+        pendingItemsShared = false;
+    }
+
+    public CompoundTag writeTag(CompoundTag tag) {
+        if (stacks == null) {
+            // untouched contents are shared with the item or chunk tag, see NetheriteShulkerBoxContents
+            if (pendingItems != null && !pendingItems.isEmpty()) {
+                tag.put("Items", pendingItems);
+                pendingItemsShared = true;
+            }
+            return tag;
+        }
+
+        return Inventories.toTag(tag, stacks, false);
+    }
+
+    public boolean isLoaded() {
+        return pendingItems == null;
+    }
+
+    public boolean isEmpty() {
+        if (stacks == null) {
+            return pendingItems == null || pendingItems.isEmpty();
+        }
+
+        for (ItemStack stack : stacks) {
+            if (!stack.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return stacks == null ? SIZE : stacks.size();
+    }
+
+    public DefaultedList<ItemStack> getStacks() {
+        if (stacks == null) {
+            stacks = DefaultedList.ofSize(SIZE, ItemStack.EMPTY);
+            if (pendingItems != null) {
+                for (int i = 0; i < pendingItems.size(); ++i) {
+                    CompoundTag itemTag = pendingItems.getCompound(i);
+                    int slot = itemTag.getByte("Slot") & 255;
+                    if (slot < stacks.size()) {
+                        // a stack keeps the tag it is read from and is edited in place, so it must not hold on to entries of a shared list
+                        stacks.set(slot, ItemStack.fromTag(pendingItemsShared ? itemTag.copy() : itemTag));
+                    }
+                }
+                pendingItems = null;
+            }
+        }
+
+        return stacks;
+    }
+
+    public void setStacks(DefaultedList<ItemStack> stacks) {
+        this.stacks = stacks;
+        pendingItems = null;
+        trackedStacks = null;
+    }
+
+    public int getComparatorOutput() {
+        if (trackedStacks == null) {
+            track();
+        }
+        return comparatorOutput;
+    }
+
+    public void markSlotDirty(int slot) {
+        if (trackedStacks != null && slot >= 0 && slot < trackedStacks.length) {
+            dirtySlots |= 1 << slot;
+        }
+    }
+
+    public void onSlotChanged(int slot) {
+        if (trackedStacks != null && slot >= 0 && slot < trackedStacks.length) {
+            updateSlot(slot, stacks.get(slot));
+            dirtySlots &= ~(1 << slot);
+            comparatorOutput = calculateComparatorOutput();
+        }
+    }
+
+    // the list was cleared as a whole
+    public void onCleared() {
+        if (trackedStacks != null) {
+            syncSlots(-1);
+            dirtySlots = 0;
+            comparatorOutput = calculateComparatorOutput();
+        }
+    }
+
+    // hoppers and screen handlers grow and shrink stacks in place, so compare the slots that could have changed against
+    // what was last seen
+    public boolean refreshComparatorOutput() {
+        if (trackedStacks == null) {
+            track();
+            return true;
+        }
+
+        if (dirtySlots != 0) {
+            syncSlots(dirtySlots);
+            dirtySlots = 0;
+            comparatorOutput = calculateComparatorOutput();
+        }
+        if (comparatorOutput != reportedComparatorOutput) {
+            reportedComparatorOutput = comparatorOutput;
+            return true;
+        }
+        return false;
+    }
+
+    // moves as much of the stack as fits, visiting only the empty slots and the slots already holding the item,
+    // in the same order HopperBlockEntity.transfer would probe them
+    public ItemStack insert(ItemStack stack) {
+        if (trackedStacks == null) {
+            track();
+        }
+
+        int candidates = slotsByItem.getInt(stack.getItem()) | emptySlots;
+        while (candidates != 0 && !stack.isEmpty()) {
+            int slot = Integer.numberOfTrailingZeros(candidates);
+            candidates &= candidates - 1;
+
+            ItemStack current = stacks.get(slot);
+            if (current != trackedStacks[slot] || current.getCount() != trackedCounts[slot]) {
+                // changed behind our back without a markDirty yet, catch up and start over
+                syncSlots(-1);
+                dirtySlots = 0;
+                return insert(stack);
+            }
+
+            if (current.isEmpty()) {
+                stacks.set(slot, stack);
+                updateSlot(slot, stack);
+                stack = ItemStack.EMPTY;
+            } else if (canMergeItems(current, stack)) {
+                int moved = Math.min(stack.getCount(), stack.getMaxCount() - current.getCount());
+                stack.decrement(moved);
+                current.increment(moved);
+                updateSlot(slot, current);
+            }
+        }
+
+        comparatorOutput = calculateComparatorOutput();
+        return stack;
+    }
+
+    private static boolean canMergeItems(ItemStack first, ItemStack second) {
+        return first.getItem() == second.getItem() && first.getDamage() == second.getDamage() && first.getCount() <= first.getMaxCount() && ItemStack.areTagsEqual(first, second);
+    }
+
+    private void syncSlots(int slots) {
+        while (slots != 0) {
+            int i = Integer.numberOfTrailingZeros(slots);
+            slots &= slots - 1;
+            if (i >= trackedStacks.length) {
+                break;
+            }
+
+            ItemStack stack = stacks.get(i);
+            if (stack != trackedStacks[i] || stack.getCount() != trackedCounts[i]) {
+                updateSlot(i, stack);
+            }
+        }
+    }
+
+    private void track() {
+        DefaultedList<ItemStack> stacks = getStacks();
+        int size = Math.min(stacks.size(), SIZE);
+        trackedStacks = new ItemStack[size];
+        trackedCounts = new int[size];
+        trackedItems = new Item[size];
+        trackedMaxCounts = new int[size];
+        slotsByItem = new Reference2IntOpenHashMap<>();
+        emptySlots = (1 << size) - 1;
+        countsByMaxCount = new int[MAX_COUNT_PER_STACK + 1];
+        nonEmptySlots = 0;
+        dirtySlots = 0;
+        for (int i = 0; i < size; i++) {
+            trackedStacks[i] = ItemStack.EMPTY;
+            updateSlot(i, stacks.get(i));
+        }
+        comparatorOutput = calculateComparatorOutput();
+        reportedComparatorOutput = comparatorOutput;
+    }
+
+    private void updateSlot(int slot, ItemStack stack) {
+        int bit = 1 << slot;
+        if (trackedCounts[slot] > 0) {
+            countsByMaxCount[trackedMaxCounts[slot]] -= trackedCounts[slot];
+            nonEmptySlots--;
+            int slots = slotsByItem.getInt(trackedItems[slot]) & ~bit;
+            if (slots == 0) {
+                slotsByItem.removeInt(trackedItems[slot]);
+            } else {
+                slotsByItem.put(trackedItems[slot], slots);
+            }
+            trackedItems[slot] = null;
+        }
+
+        int count = stack.isEmpty() ? 0 : stack.getCount();
+        if (count > 0) {
+            trackedMaxCounts[slot] = MathHelper.clamp(stack.getMaxCount(), 1, MAX_COUNT_PER_STACK);
+            countsByMaxCount[trackedMaxCounts[slot]] += count;
+            nonEmptySlots++;
+            trackedItems[slot] = stack.getItem();
+            slotsByItem.put(trackedItems[slot], slotsByItem.getInt(trackedItems[slot]) | bit);
+            emptySlots &= ~bit;
+        } else {
+            emptySlots |= bit;
+        }
+        trackedStacks[slot] = stack;
+        trackedCounts[slot] = count;
+    }
+
+    // same result as ScreenHandler.calculateComparatorOutput without visiting the slots
+    private int calculateComparatorOutput() {
+        if (nonEmptySlots == 0) {
+            return 0;
+        }
+
+        double fill = 0.0D;
+        for (int maxCount = 1; maxCount < countsByMaxCount.length; maxCount++) {
+            if (countsByMaxCount[maxCount] != 0) {
+                fill += countsByMaxCount[maxCount] / (double) maxCount;
+            }
+        }
+        return MathHelper.floor(fill / size() * 14.0D) + 1;
+    }
+}
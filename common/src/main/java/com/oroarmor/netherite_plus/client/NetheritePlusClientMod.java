@@ -24,26 +24,66 @@
 
 package com.oroarmor.netherite_plus.client;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.io.IOException;
 
-import com.oroarmor.netherite_plus.NetheritePlusMod;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconBlockEntity;
+import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxAnimator;
 import com.oroarmor.netherite_plus.config.NetheritePlusConfig;
-import com.oroarmor.netherite_plus.network.LavaVisionUpdatePacket;
+import com.oroarmor.netherite_plus.config.NetheritePlusConfigSync;
+import com.oroarmor.netherite_plus.network.ConfigSyncS2CPacket;
+import com.oroarmor.netherite_plus.network.NetheriteBeaconSyncS2CPacket;
+import me.shedaniel.architectury.event.events.client.ClientPlayerEvent;
+import me.shedaniel.architectury.event.events.client.ClientTickEvent;
 import me.shedaniel.architectury.networking.NetworkManager;
 
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.client.MinecraftClient;
+
 public class NetheritePlusClientMod {
-    public static final Queue<Integer> TRIDENT_QUEUE = new LinkedList<>();
-    public static double LAVA_VISION_DISTANCE = NetheritePlusConfig.GRAPHICS.LAVA_VISION_DISTANCE.getValue();
+    public static double LAVA_VISION_DISTANCE = NetheritePlusConfig.GRAPHICS.LAVA_VISION_DISTANCE.getDouble();
 
     public static void init() {
-        NetworkManager.registerReceiver(NetworkManager.Side.S2C, LavaVisionUpdatePacket.ID, (friendlyByteBuf, packetContext) -> {
-            NetheritePlusClientMod.LAVA_VISION_DISTANCE = friendlyByteBuf.readDouble();
+        ClientTickEvent.CLIENT_WORLD_POST.register(world -> NetheriteShulkerBoxAnimator.get(world).tick(world));
+        ClientTickEvent.CLIENT_POST.register(client -> NetheritePlusConfigSync.clientTick());
+        NetheritePlusConfig.GRAPHICS.LAVA_VISION_DISTANCE.addListener(distance -> LAVA_VISION_DISTANCE = distance);
+        // closed boxes move between the chunk mesh and the block entity renderer, so the meshes have to be rebuilt
+        NetheritePlusConfig.GRAPHICS.BAKED_SHULKER_BOXES.addListener(baked -> {
+            MinecraftClient client = MinecraftClient.getInstance();
+            if (client.worldRenderer != null) {
+                client.worldRenderer.reload();
+            }
+        });
+
+        NetworkManager.registerReceiver(NetworkManager.Side.S2C, ConfigSyncS2CPacket.ID, (friendlyByteBuf, packetContext) -> {
+            ConfigSyncS2CPacket packet = new ConfigSyncS2CPacket();
+            try {
+                packet.read(friendlyByteBuf);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
+            packetContext.queue(() -> NetheritePlusConfigSync.onPacket(packet));
         });
 
-        NetworkManager.registerReceiver(NetworkManager.Side.S2C, NetheritePlusMod.id("netherite_trident"), (friendlyByteBuf, packetContext) -> {
-            System.out.println("received");
-            TRIDENT_QUEUE.add(friendlyByteBuf.readInt());
+        ClientPlayerEvent.CLIENT_PLAYER_QUIT.register(player -> NetheritePlusConfigSync.onDisconnect());
+
+        NetworkManager.registerReceiver(NetworkManager.Side.S2C, NetheriteBeaconSyncS2CPacket.ID, (friendlyByteBuf, packetContext) -> {
+            NetheriteBeaconSyncS2CPacket packet = new NetheriteBeaconSyncS2CPacket();
+            try {
+                packet.read(friendlyByteBuf);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
+            if (packet.getPos() == null) {
+                return;
+            }
+            packetContext.queue(() -> {
+                BlockEntity blockEntity = packetContext.getPlayer().world.getBlockEntity(packet.getPos());
+                if (blockEntity instanceof NetheriteBeaconBlockEntity) {
+                    ((NetheriteBeaconBlockEntity) blockEntity).onSync(packet);
+                }
+            });
         });
     }
 
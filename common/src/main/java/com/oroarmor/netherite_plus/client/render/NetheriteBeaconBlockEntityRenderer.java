@@ -25,17 +25,17 @@
 package com.oroarmor.netherite_plus.client.render;
 
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconBlockEntity;
 
 import net.minecraft.client.render.OverlayTexture;
-import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderDispatcher;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.client.util.math.Vector3f;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Matrix3f;
@@ -47,82 +47,132 @@ import net.fabricmc.api.Environment;
 @Environment(EnvType.CLIENT)
 public class NetheriteBeaconBlockEntityRenderer extends BlockEntityRenderer<NetheriteBeaconBlockEntity> {
     public static final Identifier BEAM_TEXTURE = new Identifier("textures/entity/beacon_beam.png");
+    private static final float INNER_RADIUS = 0.2F;
+    private static final float OUTER_RADIUS = 0.25F;
+
+    private final Map<NetheriteBeaconBlockEntity, BeamMesh> meshes = new WeakHashMap<>();
 
     public NetheriteBeaconBlockEntityRenderer(BlockEntityRenderDispatcher blockEntityRenderDispatcher) {
         super(blockEntityRenderDispatcher);
     }
 
-    private static void render(MatrixStack matrixStack, VertexConsumerProvider vertexConsumerProvider, float f, long l, int i, int j, float[] fs) {
-        renderLightBeam(matrixStack, vertexConsumerProvider, BEAM_TEXTURE, f, 1.0F, l, i, j, fs, 0.2F, 0.25F);
-    }
+    @Override
+    public void render(NetheriteBeaconBlockEntity beaconBlockEntity, float f, MatrixStack matrixStack, VertexConsumerProvider vertexConsumerProvider, int i, int j) {
+        List<NetheriteBeaconBlockEntity.BeamSegment> segments = beaconBlockEntity.getBeamSegments();
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        // the geometry only changes when a scan finishes
+        BeamMesh mesh = meshes.get(beaconBlockEntity);
+        int scan = beaconBlockEntity.getBeamScan();
+        if (mesh == null || mesh.scan != scan) {
+            mesh = new BeamMesh(segments, scan);
+            meshes.put(beaconBlockEntity, mesh);
+        }
+
+        // the only per frame work: where the texture has scrolled to and how far the inner beam has turned
+        float time = Math.floorMod(beaconBlockEntity.getWorld().getTime(), 40L) + f;
+        float v = MathHelper.fractionalPart(-time * 0.2F - MathHelper.floor(-time * 0.1F)) - 1.0F;
+        float angle = (time * 2.25F - 45.0F) * ((float) Math.PI / 180.0F);
+        float sin = MathHelper.sin(angle) * INNER_RADIUS;
+        float cos = MathHelper.cos(angle) * INNER_RADIUS;
 
-    public static void renderLightBeam(MatrixStack matrixStack, VertexConsumerProvider vertexConsumerProvider, Identifier identifier, float f, float g, long l, int i, int j, float[] fs, float h, float k) {
-        int m = i + j;
         matrixStack.push();
         matrixStack.translate(0.5D, 0.0D, 0.5D);
-        float n = Math.floorMod(l, 40L) + f;
-        float o = j < 0 ? n : -n;
-        float p = MathHelper.fractionalPart(o * 0.2F - MathHelper.floor(o * 0.1F));
-        float q = fs[0];
-        float r = fs[1];
-        float s = fs[2];
-        matrixStack.push();
-        matrixStack.multiply(Vector3f.POSITIVE_Y.getDegreesQuaternion(n * 2.25F - 45.0F));
-        float af = 0.0F;
-        float ai = 0.0F;
-        float aj = -h;
-        float aa = -h;
-        float ap = -1.0F + p;
-        float aq = j * g * (0.5F / h) + ap;
-        method_22741(matrixStack, vertexConsumerProvider.getBuffer(RenderLayer.getBeaconBeam(identifier, false)), q, r, s, 1.0F, i, m, 0.0F, h, h, 0.0F, aj, 0.0F, 0.0F, aa, 0.0F, 1.0F, aq, ap);
-        matrixStack.pop();
-        af = -k;
-        float ag = -k;
-        ai = -k;
-        aj = -k;
-        ap = -1.0F + p;
-        aq = j * g + ap;
-        method_22741(matrixStack, vertexConsumerProvider.getBuffer(RenderLayer.getBeaconBeam(identifier, true)), q, r, s, 0.125F, i, m, af, ag, k, ai, aj, k, k, k, 0.0F, 1.0F, aq, ap);
+        MatrixStack.Entry entry = matrixStack.peek();
+        Matrix4f model = entry.getModel();
+        Matrix3f normal = entry.getNormal();
+
+        VertexConsumer inner = vertexConsumerProvider.getBuffer(NetheritePlusRenderCache.BEACON_BEAM_LAYER);
+        for (int s = 0; s < mesh.size; s++) {
+            renderInnerSegment(model, normal, inner, mesh, s, v, sin, cos);
+        }
+
+        VertexConsumer outer = vertexConsumerProvider.getBuffer(NetheritePlusRenderCache.TRANSLUCENT_BEACON_BEAM_LAYER);
+        for (int s = 0; s < mesh.size; s++) {
+            renderOuterSegment(model, normal, outer, mesh, s, v);
+        }
         matrixStack.pop();
     }
 
-    private static void method_22741(MatrixStack matrixStack, VertexConsumer vertexConsumer, float f, float g, float h, float i, int j, int k, float l, float m, float n, float o, float p, float q, float r, float s, float t, float u, float v, float w) {
-        MatrixStack.Entry entry = matrixStack.peek();
-        Matrix4f matrix4f = entry.getModel();
-        Matrix3f matrix3f = entry.getNormal();
-        method_22740(matrix4f, matrix3f, vertexConsumer, f, g, h, i, j, k, l, m, n, o, t, u, v, w);
-        method_22740(matrix4f, matrix3f, vertexConsumer, f, g, h, i, j, k, r, s, p, q, t, u, v, w);
-        method_22740(matrix4f, matrix3f, vertexConsumer, f, g, h, i, j, k, n, o, r, s, t, u, v, w);
-        method_22740(matrix4f, matrix3f, vertexConsumer, f, g, h, i, j, k, p, q, l, m, t, u, v, w);
+    private static void renderInnerSegment(Matrix4f model, Matrix3f normal, VertexConsumer consumer, BeamMesh mesh, int segment, float v, float sin, float cos) {
+        int offset = segment * BeamMesh.STRIDE;
+        float[] data = mesh.data;
+        float r = data[offset + 2];
+        float g = data[offset + 3];
+        float b = data[offset + 4];
+        float bottom = data[offset];
+        float top = data[offset + 1];
+        float vTop = data[offset + 5] / INNER_RADIUS * 0.5F + v;
+
+        // the corners (0, h), (h, 0), (0, -h) and (-h, 0) turned about the beam's axis
+        renderFace(model, normal, consumer, r, g, b, 1.0F, bottom, top, sin, cos, cos, -sin, vTop, v);
+        renderFace(model, normal, consumer, r, g, b, 1.0F, bottom, top, -sin, -cos, -cos, sin, vTop, v);
+        renderFace(model, normal, consumer, r, g, b, 1.0F, bottom, top, cos, -sin, -sin, -cos, vTop, v);
+        renderFace(model, normal, consumer, r, g, b, 1.0F, bottom, top, -cos, sin, sin, cos, vTop, v);
     }
 
-    private static void method_22740(Matrix4f matrix4f, Matrix3f matrix3f, VertexConsumer vertexConsumer, float f, float g, float h, float i, int j, int k, float l, float m, float n, float o, float p, float q, float r, float s) {
-        method_23076(matrix4f, matrix3f, vertexConsumer, f, g, h, i, k, l, m, q, r);
-        method_23076(matrix4f, matrix3f, vertexConsumer, f, g, h, i, j, l, m, q, s);
-        method_23076(matrix4f, matrix3f, vertexConsumer, f, g, h, i, j, n, o, p, s);
-        method_23076(matrix4f, matrix3f, vertexConsumer, f, g, h, i, k, n, o, p, r);
+    private static void renderOuterSegment(Matrix4f model, Matrix3f normal, VertexConsumer consumer, BeamMesh mesh, int segment, float v) {
+        int offset = segment * BeamMesh.STRIDE;
+        float[] data = mesh.data;
+        float r = data[offset + 2];
+        float g = data[offset + 3];
+        float b = data[offset + 4];
+        float bottom = data[offset];
+        float top = data[offset + 1];
+        float vTop = data[offset + 5] + v;
+        float k = OUTER_RADIUS;
+
+        renderFace(model, normal, consumer, r, g, b, 0.125F, bottom, top, -k, -k, k, -k, vTop, v);
+        renderFace(model, normal, consumer, r, g, b, 0.125F, bottom, top, k, k, -k, k, vTop, v);
+        renderFace(model, normal, consumer, r, g, b, 0.125F, bottom, top, k, -k, k, k, vTop, v);
+        renderFace(model, normal, consumer, r, g, b, 0.125F, bottom, top, -k, k, -k, -k, vTop, v);
     }
 
-    private static void method_23076(Matrix4f matrix4f, Matrix3f matrix3f, VertexConsumer vertexConsumer, float f, float g, float h, float i, int j, float k, float l, float m, float n) {
-        vertexConsumer.vertex(matrix4f, k, j, l).color(f, g, h, i).texture(m, n).overlay(OverlayTexture.DEFAULT_UV).light(15728880).normal(matrix3f, 0.0F, 1.0F, 0.0F).next();
+    private static void renderFace(Matrix4f model, Matrix3f normal, VertexConsumer consumer, float r, float g, float b, float a, float bottom, float top, float x1, float z1, float x2, float z2, float vTop, float vBottom) {
+        vertex(model, normal, consumer, r, g, b, a, top, x1, z1, 1.0F, vTop);
+        vertex(model, normal, consumer, r, g, b, a, bottom, x1, z1, 1.0F, vBottom);
+        vertex(model, normal, consumer, r, g, b, a, bottom, x2, z2, 0.0F, vBottom);
+        vertex(model, normal, consumer, r, g, b, a, top, x2, z2, 0.0F, vTop);
     }
 
-    @Override
-    public void render(NetheriteBeaconBlockEntity beaconBlockEntity, float f, MatrixStack matrixStack, VertexConsumerProvider vertexConsumerProvider, int i, int j) {
-        long l = beaconBlockEntity.getWorld().getTime();
-        List<NetheriteBeaconBlockEntity.BeamSegment> list = beaconBlockEntity.getBeamSegments();
-        int k = 0;
-
-        for (int m = 0; m < list.size(); ++m) {
-            NetheriteBeaconBlockEntity.BeamSegment beamSegment = list.get(m);
-            render(matrixStack, vertexConsumerProvider, f, l, k, m == list.size() - 1 ? 1024 : beamSegment.getHeight(), beamSegment.getColor());
-            k += beamSegment.getHeight();
-        }
-
+    private static void vertex(Matrix4f model, Matrix3f normal, VertexConsumer consumer, float r, float g, float b, float a, float y, float x, float z, float u, float v) {
+        consumer.vertex(model, x, y, z).color(r, g, b, a).texture(u, v).overlay(OverlayTexture.DEFAULT_UV).light(15728880).normal(normal, 0.0F, 1.0F, 0.0F).next();
     }
 
     @Override
     public boolean rendersOutsideBoundingBox(NetheriteBeaconBlockEntity blockEntity) {
         return true;
     }
+
+    // bottom, top, red, green, blue and height of every segment, the last one reaching up to 1024 like vanilla
+    private static final class BeamMesh {
+        private static final int STRIDE = 6;
+
+        private final int scan;
+        private final int size;
+        private final float[] data;
+
+        private BeamMesh(List<NetheriteBeaconBlockEntity.BeamSegment> segments, int scan) {
+            this.scan = scan;
+            size = segments.size();
+            data = new float[size * STRIDE];
+
+            int bottom = 0;
+            for (int i = 0; i < size; i++) {
+                NetheriteBeaconBlockEntity.BeamSegment segment = segments.get(i);
+                int height = i == size - 1 ? 1024 : segment.getHeight();
+                float[] color = segment.getColor();
+                int offset = i * STRIDE;
+                data[offset] = bottom;
+                data[offset + 1] = bottom + height;
+                data[offset + 2] = color[0];
+                data[offset + 3] = color[1];
+                data[offset + 4] = color[2];
+                data[offset + 5] = height;
+                bottom += segment.getHeight();
+            }
+        }
+    }
 }
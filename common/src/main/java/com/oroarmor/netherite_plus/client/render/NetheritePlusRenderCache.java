@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.client.render;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.mojang.datafixers.util.Pair;
+import com.oroarmor.netherite_plus.client.NetheritePlusTextures;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+
+import net.minecraft.block.entity.BannerBlockEntity;
+import net.minecraft.block.entity.BannerPattern;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.entity.model.ShieldEntityModel;
+import net.minecraft.client.render.entity.model.TridentEntityModel;
+import net.minecraft.client.util.SpriteIdentifier;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.ShieldItem;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.util.DyeColor;
+import net.minecraft.util.Identifier;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
+
+// render layers and sprite identifiers only name textures, so unlike sprites they stay valid across resource reloads
+@Environment(EnvType.CLIENT)
+public final class NetheritePlusRenderCache {
+    public static final Identifier NETHERITE_TRIDENT_TEXTURE = id("textures/entity/netherite_trident.png");
+
+    // given their own buffers in BufferBuilderStorageMixin, so every beam of a frame goes out in one draw per layer
+    public static final RenderLayer BEACON_BEAM_LAYER = RenderLayer.getBeaconBeam(NetheriteBeaconBlockEntityRenderer.BEAM_TEXTURE, false);
+    public static final RenderLayer TRANSLUCENT_BEACON_BEAM_LAYER = RenderLayer.getBeaconBeam(NetheriteBeaconBlockEntityRenderer.BEAM_TEXTURE, true);
+
+    // indexed by dye id with the uncolored box last
+    private static final SpriteIdentifier[] SHULKER_SPRITES = new SpriteIdentifier[DyeColor.values().length + 1];
+
+    static {
+        for (DyeColor color : DyeColor.values()) {
+            SHULKER_SPRITES[color.getId()] = new SpriteIdentifier(NetheritePlusTextures.SHULKER_BOXES_ATLAS_TEXTURE, id(NetheritePlusTextures.makePath(color)));
+        }
+        SHULKER_SPRITES[SHULKER_SPRITES.length - 1] = new SpriteIdentifier(NetheritePlusTextures.SHULKER_BOXES_ATLAS_TEXTURE, id(NetheritePlusTextures.makePath(null)));
+    }
+
+    private static final int MAX_SHIELD_PATTERNS = 128;
+    // keyed by the shield's BlockEntityTag itself, a changed shield gets a new tag from the server or from copy(). a hit is
+    // still compared against a copy of the patterns it was decoded from, in case the tag was edited in place
+    private static final Reference2ObjectLinkedOpenHashMap<CompoundTag, ShieldPatterns> SHIELD_PATTERNS = new Reference2ObjectLinkedOpenHashMap<>();
+
+    private static RenderLayer tridentLayer;
+    private static RenderLayer shieldLayer;
+    private static int reused;
+
+    private NetheritePlusRenderCache() {
+    }
+
+    public static RenderLayer getTridentLayer(TridentEntityModel model) {
+        if (tridentLayer == null) {
+            tridentLayer = model.getLayer(NETHERITE_TRIDENT_TEXTURE);
+        } else {
+            reused++;
+        }
+        return tridentLayer;
+    }
+
+    // both shield sprites live on the block atlas, so they share one layer
+    public static RenderLayer getShieldLayer(ShieldEntityModel model) {
+        if (shieldLayer == null) {
+            shieldLayer = model.getLayer(NetheritePlusTextures.NETHERITE_SHIELD_BASE.getAtlasId());
+        } else {
+            reused++;
+        }
+        return shieldLayer;
+    }
+
+    public static SpriteIdentifier getShulkerSprite(DyeColor color) {
+        reused++;
+        return SHULKER_SPRITES[color == null ? SHULKER_SPRITES.length - 1 : color.getId()];
+    }
+
+    public static List<Pair<BannerPattern, DyeColor>> getShieldPatterns(ItemStack stack) {
+        CompoundTag tag = stack.getSubTag("BlockEntityTag");
+        // read without the copy BannerBlockEntity.getPatternListTag makes, decoding only reads it
+        ListTag patterns = tag.contains("Patterns", 9) ? tag.getList("Patterns", 10) : null;
+        DyeColor base = ShieldItem.getColor(stack);
+
+        ShieldPatterns entry = SHIELD_PATTERNS.getAndMoveToLast(tag);
+        if (entry == null || entry.base != base || !Objects.equals(entry.patterns, patterns)) {
+            entry = new ShieldPatterns(base, patterns == null ? null : patterns.copy(), BannerBlockEntity.method_24280(base, patterns));
+            SHIELD_PATTERNS.putAndMoveToLast(tag, entry);
+            if (SHIELD_PATTERNS.size() > MAX_SHIELD_PATTERNS) {
+                SHIELD_PATTERNS.removeFirst();
+            }
+        } else {
+            reused++;
+        }
+        return entry.decoded;
+    }
+
+    // lookups served from the cache since the last call, each one a render layer or identifier not allocated
+    public static int takeReusedCount() {
+        int count = reused;
+        reused = 0;
+        return count;
+    }
+
+    private static final class ShieldPatterns {
+        private final DyeColor base;
+        private final ListTag patterns;
+        private final List<Pair<BannerPattern, DyeColor>> decoded;
+
+        private ShieldPatterns(DyeColor base, ListTag patterns, List<Pair<BannerPattern, DyeColor>> decoded) {
+            this.base = base;
+            this.patterns = patterns;
+            this.decoded = decoded;
+        }
+    }
+}
@@ -26,24 +26,28 @@ package com.oroarmor.netherite_plus.client.render;
 
 import com.oroarmor.netherite_plus.block.NetheriteShulkerBoxBlock;
 import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxBlockEntity;
-import com.oroarmor.netherite_plus.client.NetheritePlusTextures;
+import com.oroarmor.netherite_plus.config.NetheritePlusConfig;
 
 import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderDispatcher;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
+import net.minecraft.client.render.chunk.ChunkRendererRegion;
 import net.minecraft.client.render.entity.model.ShulkerEntityModel;
 import net.minecraft.client.util.SpriteIdentifier;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.client.util.math.Vector3f;
 import net.minecraft.util.DyeColor;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.world.BlockRenderView;
+import net.minecraft.world.chunk.WorldChunk;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
 
 @Environment(EnvType.CLIENT)
 public class NetheriteShulkerBoxBlockEntityRenderer extends BlockEntityRenderer<NetheriteShulkerBoxBlockEntity> {
@@ -54,23 +58,33 @@ public class NetheriteShulkerBoxBlockEntityRenderer extends BlockEntityRenderer<
         model = new ShulkerEntityModel<>();
     }
 
+    // whether the box at pos is drawn from the chunk mesh, decided on the client from the block events it has seen. the
+    // chunk builder runs off thread, so the block entity is looked up without creating one
+    public static boolean isBaked(BlockRenderView world, BlockPos pos) {
+        if (!NetheritePlusConfig.GRAPHICS.BAKED_SHULKER_BOXES.getBoolean()) {
+            return false;
+        }
+
+        BlockEntity blockEntity = world instanceof ChunkRendererRegion ? ((ChunkRendererRegion) world).getBlockEntity(pos, WorldChunk.CreationType.CHECK) : world.getBlockEntity(pos);
+        return !(blockEntity instanceof NetheriteShulkerBoxBlockEntity) || ((NetheriteShulkerBoxBlockEntity) blockEntity).isIdleClosed();
+    }
+
     @Override
     public void render(NetheriteShulkerBoxBlockEntity shulkerBoxBlockEntity, float f, MatrixStack matrixStack, VertexConsumerProvider vertexConsumerProvider, int i, int j) {
         Direction direction = Direction.UP;
         if (shulkerBoxBlockEntity.hasWorld()) {
-            BlockState blockState = shulkerBoxBlockEntity.getWorld().getBlockState(shulkerBoxBlockEntity.getPos());
+            BlockState blockState = shulkerBoxBlockEntity.getCachedState();
             if (blockState.getBlock() instanceof NetheriteShulkerBoxBlock) {
+                // a box at rest is already in the chunk mesh
+                if (NetheritePlusConfig.GRAPHICS.BAKED_SHULKER_BOXES.getBoolean() && shulkerBoxBlockEntity.isIdleClosed()) {
+                    return;
+                }
                 direction = blockState.get(NetheriteShulkerBoxBlock.FACING);
             }
         }
 
         DyeColor dyeColor = shulkerBoxBlockEntity.getColor();
-        SpriteIdentifier spriteIdentifier2;
-        if (dyeColor == null) {
-            spriteIdentifier2 = new SpriteIdentifier(NetheritePlusTextures.SHULKER_BOXES_ATLAS_TEXTURE, id("entity/netherite_shulker/netherite_shulker"));
-        } else {
-            spriteIdentifier2 = new SpriteIdentifier(NetheritePlusTextures.SHULKER_BOXES_ATLAS_TEXTURE, id("entity/netherite_shulker/netherite_shulker_" + dyeColor.getName()));
-        }
+        SpriteIdentifier spriteIdentifier2 = NetheritePlusRenderCache.getShulkerSprite(dyeColor);
 
         matrixStack.push();
         matrixStack.translate(0.5D, 0.5D, 0.5D);
@@ -24,6 +24,8 @@
 
 package com.oroarmor.netherite_plus.client.render.item;
 
+import com.oroarmor.netherite_plus.client.render.NetheritePlusRenderCache;
+
 import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.entity.model.TridentEntityModel;
@@ -32,15 +34,13 @@ import net.minecraft.client.render.model.json.ModelTransformation.Mode;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.item.ItemStack;
 
-import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
-
 public class NetheriteTridentItemRenderer {
     private static final TridentEntityModel modelTrident = new TridentEntityModel();
 
     public static void render(ItemStack stack, Mode mode, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light, int overlay) {
         matrices.push();
         matrices.scale(1.0F, -1.0F, -1.0F);
-        VertexConsumer vertexConsumer2 = ItemRenderer.getDirectItemGlintConsumer(vertexConsumers, modelTrident.getLayer(id("textures/entity/netherite_trident.png")), false, stack.hasGlint());
+        VertexConsumer vertexConsumer2 = ItemRenderer.getDirectItemGlintConsumer(vertexConsumers, NetheritePlusRenderCache.getTridentLayer(modelTrident), false, stack.hasGlint());
         modelTrident.render(matrices, vertexConsumer2, light, overlay, 1.0F, 1.0F, 1.0F, 1.0F);
         matrices.pop();
     }
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import com.oroarmor.config.ConfigItem;
+import org.jetbrains.annotations.Nullable;
+
+// keeps the value unboxed next to the boxed one the config library works with
+public class DoubleConfigItem extends ConfigItem<Double> {
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile double doubleValue;
+
+    public DoubleConfigItem(String name, double defaultValue, String details) {
+        this(name, defaultValue, details, null);
+    }
+
+    public DoubleConfigItem(String name, double defaultValue, String details, @Nullable Consumer<ConfigItem<Double>> onChange) {
+        super(name, defaultValue, details, onChange);
+        doubleValue = defaultValue;
+    }
+
+    public double getDouble() {
+        return doubleValue;
+    }
+
+    @Override
+    public void setValue(Double value) {
+        super.setValue(value);
+        refresh();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    // picks up values the library stored without going through setValue, see NetheritePlusConfig.readConfigFromFile
+    void refresh() {
+        double value = getValue();
+        if (value != doubleValue) {
+            doubleValue = value;
+            for (Listener listener : listeners) {
+                listener.onChange(value);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        void onChange(double value);
+    }
+}
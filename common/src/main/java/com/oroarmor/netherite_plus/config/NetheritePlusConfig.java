@@ -25,44 +25,122 @@
 package com.oroarmor.netherite_plus.config;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 import com.oroarmor.config.Config;
 import com.oroarmor.config.ConfigItem;
 import com.oroarmor.config.ConfigItemGroup;
-import com.oroarmor.netherite_plus.NetheritePlusMod;
-import com.oroarmor.netherite_plus.network.LavaVisionUpdatePacket;
-import io.netty.buffer.Unpooled;
-import me.shedaniel.architectury.networking.NetworkManager;
 import me.shedaniel.architectury.platform.Platform;
 
-import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.network.PacketByteBuf;
-import net.minecraft.server.network.ServerPlayerEntity;
-
 public final class NetheritePlusConfig extends Config {
     public static final String CONFIG_FILE_NAME = "netherite_plus.json";
-    private static final List<ConfigItemGroup> CONFIGS = ImmutableList.of(new ENABLED(), new DURABILITIES(), new DAMAGE(), new ANVIL(), new GRAPHICS());
+    private static final List<ConfigItemGroup> CONFIGS = ImmutableList.of(new ENABLED(), new DURABILITIES(), new DAMAGE(), new ANVIL(), new BEACON(), new GRAPHICS());
+    private static final List<ConfigItem<?>> ITEMS = CONFIGS.stream().flatMap(group -> group.getConfigs().stream()).collect(ImmutableList.toImmutableList());
 
     public NetheritePlusConfig() {
-        super(CONFIGS, new File(Platform.getConfigFolder().toFile(), CONFIG_FILE_NAME), "netherite_plus");
+        super(CONFIGS, getConfigFile(), "netherite_plus");
     }
 
-    public static void createLavaVisionUpdatePacket(ConfigItem<Double> configItem) {
-        PacketByteBuf passedData = new PacketByteBuf(Unpooled.buffer());
-        passedData.writeDouble(configItem.getValue());
-        NetheritePlusMod.CONNECTED_CLIENTS.forEach(_player -> NetworkManager.sendToPlayer((ServerPlayerEntity) _player, LavaVisionUpdatePacket.ID, passedData));
+    // the library may fill in values without calling setValue, bring the unboxed copies up to date
+    @Override
+    public void readConfigFromFile() {
+        super.readConfigFromFile();
+        for (ConfigItemGroup group : CONFIGS) {
+            for (ConfigItem<?> item : group.getConfigs()) {
+                if (item instanceof DoubleConfigItem) {
+                    ((DoubleConfigItem) item).refresh();
+                } else if (item instanceof IntConfigItem) {
+                    ((IntConfigItem) item).refresh();
+                } else if (item instanceof BooleanConfigItem) {
+                    ((BooleanConfigItem) item).refresh();
+                }
+            }
+        }
     }
 
-    public static void createLavaVisionUpdatePacket(PlayerEntity player) {
-        PacketByteBuf passedData = new PacketByteBuf(Unpooled.buffer());
-        passedData.writeDouble(GRAPHICS.LAVA_VISION_DISTANCE.getValue());
-        NetworkManager.sendToPlayer((ServerPlayerEntity) player, LavaVisionUpdatePacket.ID, passedData);
+    // a client connected to a remote server writes its own values, not the ones the server is overriding them with
+    @Override
+    public void saveConfigToFile() {
+        Object[] values = NetheritePlusConfigSync.getPersistedValues();
+        if (values == null) {
+            super.saveConfigToFile();
+        } else {
+            detach(values, getConfigFile()).saveConfigToFile();
+        }
+    }
+
+    // a config of copies holding the given values, in getItems() order, that can be read or written without touching the live items
+    private static Config detach(Object[] values, File file) {
+        List<ConfigItemGroup> groups = new ArrayList<>(CONFIGS.size());
+        int index = 0;
+        for (ConfigItemGroup group : CONFIGS) {
+            List<ConfigItem<?>> copies = new ArrayList<>(group.getConfigs().size());
+            for (ConfigItem<?> item : group.getConfigs()) {
+                ConfigItem<Object> copy = new ConfigItem<>(item.getName(), item.getDefaultValue(), "");
+                copy.setValue(values[index++]);
+                copies.add(copy);
+            }
+            groups.add(new ConfigItemGroup(copies, group.getName()) {
+            });
+        }
+        return new Config(groups, file, "netherite_plus") {
+        };
+    }
+
+    // the file read into copies of the items, in getItems() order, the live items are left to the threads using them
+    public static Object[] readValuesFromFile() {
+        Object[] values = new Object[ITEMS.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ITEMS.get(i).getDefaultValue();
+        }
+
+        // the library writes back a file it cannot fully read, so it reads a copy and only ever writes that
+        File copy;
+        try {
+            copy = File.createTempFile("netherite_plus", ".json");
+            Files.copy(getConfigFile().toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            Config detached = detach(values, copy);
+            detached.readConfigFromFile();
+            int index = 0;
+            for (ConfigItemGroup group : detached.getConfigs()) {
+                for (ConfigItem<?> item : group.getConfigs()) {
+                    values[index++] = item.getValue();
+                }
+            }
+            return values;
+        } finally {
+            copy.delete();
+        }
+    }
+
+    // every item of every group, in file order
+    public static List<ConfigItem<?>> getItems() {
+        return ITEMS;
+    }
+
+    // options that only change how this game looks, the server has no say in them. the lava vision distance is a graphics
+    // option too, but servers have always set it for their players
+    public static boolean isClientLocal(ConfigItem<?> item) {
+        return GRAPHICS.CLIENT_LOCAL.contains(item);
+    }
+
+    public static File getConfigFile() {
+        return new File(Platform.getConfigFolder().toFile(), CONFIG_FILE_NAME);
     }
 
     public static class ANVIL extends ConfigItemGroup {
-        public static final ConfigItem<Double> XP_REDUCTION = new ConfigItem<>("xp_reduction", 0.5, "config.netherite_plus.anvil.xp_redcution");
+        public static final DoubleConfigItem XP_REDUCTION = new DoubleConfigItem("xp_reduction", 0.5, "config.netherite_plus.anvil.xp_redcution");
 
         public static final List<ConfigItem<?>> OPTIONS = ImmutableList.of(XP_REDUCTION);
 
@@ -71,14 +149,24 @@ public final class NetheritePlusConfig extends Config {
         }
     }
 
+    public static class BEACON extends ConfigItemGroup {
+        public static final IntConfigItem PULSES_PER_TICK = new IntConfigItem("pulses_per_tick", 0, "config.netherite_plus.beacon.pulses_per_tick");
+
+        public static final List<ConfigItem<?>> OPTIONS = ImmutableList.of(PULSES_PER_TICK);
+
+        public BEACON() {
+            super(OPTIONS, "beacon");
+        }
+    }
+
     public static class DAMAGE extends ConfigItemGroup {
-        public static final ConfigItem<Double> BOW_DAMAGE_ADDITION = new ConfigItem<>("bow_damage_addition", 0d, "config.netherite_plus.damage.bow_damage_addition");
-        public static final ConfigItem<Double> BOW_DAMAGE_MULTIPLIER = new ConfigItem<>("bow_damage_multiplier", 1d, "config.netherite_plus.damage.bow_damage_multiplier");
-        public static final ConfigItem<Double> CROSSBOW_DAMAGE_ADDITION = new ConfigItem<>("crossbow_damage_addition", 0d, "config.netherite_plus.damage.crossbow_damage_addition");
-        public static final ConfigItem<Double> CROSSBOW_DAMAGE_MULTIPLIER = new ConfigItem<>("crossbow_damage_multiplier", 1d, "config.netherite_plus.damage.crossbow_damage_multiplier");
-        public static final ConfigItem<Double> TRIDENT_DAMAGE_ADDITION = new ConfigItem<>("trident_damage_addition", 0d, "config.netherite_plus.damage.trident_damage_addition");
-        public static final ConfigItem<Double> TRIDENT_DAMAGE_MULTIPLIER = new ConfigItem<>("trident_damage_multiplier", 1d, "config.netherite_plus.damage.trident_damage_multiplier");
-        public static final ConfigItem<Integer> ELYTRA_ARMOR_POINTS = new ConfigItem("elytra_armor_points", 4, "config.netherite_plus.damage.elytra_armor_points");
+        public static final DoubleConfigItem BOW_DAMAGE_ADDITION = new DoubleConfigItem("bow_damage_addition", 0.0D, "config.netherite_plus.damage.bow_damage_addition");
+        public static final DoubleConfigItem BOW_DAMAGE_MULTIPLIER = new DoubleConfigItem("bow_damage_multiplier", 1.0D, "config.netherite_plus.damage.bow_damage_multiplier");
+        public static final DoubleConfigItem CROSSBOW_DAMAGE_ADDITION = new DoubleConfigItem("crossbow_damage_addition", 0.0D, "config.netherite_plus.damage.crossbow_damage_addition");
+        public static final DoubleConfigItem CROSSBOW_DAMAGE_MULTIPLIER = new DoubleConfigItem("crossbow_damage_multiplier", 1.0D, "config.netherite_plus.damage.crossbow_damage_multiplier");
+        public static final DoubleConfigItem TRIDENT_DAMAGE_ADDITION = new DoubleConfigItem("trident_damage_addition", 0.0D, "config.netherite_plus.damage.trident_damage_addition");
+        public static final DoubleConfigItem TRIDENT_DAMAGE_MULTIPLIER = new DoubleConfigItem("trident_damage_multiplier", 1.0D, "config.netherite_plus.damage.trident_damage_multiplier");
+        public static final IntConfigItem ELYTRA_ARMOR_POINTS = new IntConfigItem("elytra_armor_points", 4, "config.netherite_plus.damage.elytra_armor_points");
 
         public static final List<ConfigItem<?>> OPTIONS = ImmutableList.of(BOW_DAMAGE_ADDITION, BOW_DAMAGE_MULTIPLIER, CROSSBOW_DAMAGE_ADDITION, CROSSBOW_DAMAGE_MULTIPLIER, TRIDENT_DAMAGE_ADDITION, TRIDENT_DAMAGE_MULTIPLIER, ELYTRA_ARMOR_POINTS);
 
@@ -88,12 +176,12 @@ public final class NetheritePlusConfig extends Config {
     }
 
     public static class DURABILITIES extends ConfigItemGroup {
-        public static final ConfigItem<Integer> BOW_DURABILITY = new ConfigItem<>("bow", 768, "config.netherite_plus.durabilities.bow");
-        public static final ConfigItem<Integer> CROSSBOW_DURABILITY = new ConfigItem<>("crossbow", 652, "config.netherite_plus.durabilities.crossbow");
-        public static final ConfigItem<Integer> ELYTRA_DURABILITY = new ConfigItem<>("elytra", 864, "config.netherite_plus.durabilities.elytra");
-        public static final ConfigItem<Integer> FISHING_ROD_DURABILITY = new ConfigItem<>("fishing_rod", 128, "config.netherite_plus.durabilities.fishing_rod");
-        public static final ConfigItem<Integer> SHIELD_DURABILITY = new ConfigItem<>("shield", 672, "config.netherite_plus.durabilities.shield");
-        public static final ConfigItem<Integer> TRIDENT_DURABILITY = new ConfigItem<>("trident", 500, "config.netherite_plus.durabilities.trident");
+        public static final IntConfigItem BOW_DURABILITY = new IntConfigItem("bow", 768, "config.netherite_plus.durabilities.bow");
+        public static final IntConfigItem CROSSBOW_DURABILITY = new IntConfigItem("crossbow", 652, "config.netherite_plus.durabilities.crossbow");
+        public static final IntConfigItem ELYTRA_DURABILITY = new IntConfigItem("elytra", 864, "config.netherite_plus.durabilities.elytra");
+        public static final IntConfigItem FISHING_ROD_DURABILITY = new IntConfigItem("fishing_rod", 128, "config.netherite_plus.durabilities.fishing_rod");
+        public static final IntConfigItem SHIELD_DURABILITY = new IntConfigItem("shield", 672, "config.netherite_plus.durabilities.shield");
+        public static final IntConfigItem TRIDENT_DURABILITY = new IntConfigItem("trident", 500, "config.netherite_plus.durabilities.trident");
         public static final List<ConfigItem<?>> OPTIONS = ImmutableList.of(ELYTRA_DURABILITY, FISHING_ROD_DURABILITY, SHIELD_DURABILITY, BOW_DURABILITY, CROSSBOW_DURABILITY, TRIDENT_DURABILITY);
 
         public DURABILITIES() {
@@ -102,17 +190,17 @@ public final class NetheritePlusConfig extends Config {
     }
 
     public static class ENABLED extends ConfigItemGroup {
-        public static final ConfigItem<Boolean> ENABLED_CONFIG_PRINT = new ConfigItem<>("config_debug_print", false, "config.netherite_plus.enabled.config_debug_print");
-        public static final ConfigItem<Boolean> ENABLED_ANVIL = new ConfigItem<>("anvils", true, "config.netherite_plus.enabled.anvils");
-        public static final ConfigItem<Boolean> ENABLED_BOWS_AND_CROSSBOWS = new ConfigItem<>("bows_and_crossbows", true, "config.netherite_plus.enabled.bows_crossbows");
-        public static final ConfigItem<Boolean> ENABLED_ELYTRA = new ConfigItem<>("elytra", true, "config.netherite_plus.enabled.elytra");
-        public static final ConfigItem<Boolean> ENABLED_FAKE_NETHERITE_BLOCKS = new ConfigItem<>("fake_netherite_blocks", true, "config.netherite_plus.enabled.fake_netherite_blocks");
-        public static final ConfigItem<Boolean> ENABLED_FISHING_ROD = new ConfigItem<>("fishing_rod", true, "config.netherite_plus.enabled.fishing_rod");
-        public static final ConfigItem<Boolean> ENABLED_HORSE_ARMOR = new ConfigItem<>("horse_armor", true, "config.netherite_plus.enabled.horse_armor");
-        public static final ConfigItem<Boolean> ENABLED_SHIELDS = new ConfigItem<>("shields", true, "config.netherite_plus.enabled.shields");
-        public static final ConfigItem<Boolean> ENABLED_SHULKER_BOXES = new ConfigItem<>("shulker_boxes", true, "config.netherite_plus.enabled.shulker_boxes");
-        public static final ConfigItem<Boolean> ENABLED_TRIDENT = new ConfigItem<>("trident", true, "config.netherite_plus.enabled.trident");
-        public static final ConfigItem<Boolean> ENABLED_BEACON = new ConfigItem<>("beacon", true, "config.netherite_plus.enabled.beacon");
+        public static final BooleanConfigItem ENABLED_CONFIG_PRINT = new BooleanConfigItem("config_debug_print", false, "config.netherite_plus.enabled.config_debug_print");
+        public static final BooleanConfigItem ENABLED_ANVIL = new BooleanConfigItem("anvils", true, "config.netherite_plus.enabled.anvils");
+        public static final BooleanConfigItem ENABLED_BOWS_AND_CROSSBOWS = new BooleanConfigItem("bows_and_crossbows", true, "config.netherite_plus.enabled.bows_crossbows");
+        public static final BooleanConfigItem ENABLED_ELYTRA = new BooleanConfigItem("elytra", true, "config.netherite_plus.enabled.elytra");
+        public static final BooleanConfigItem ENABLED_FAKE_NETHERITE_BLOCKS = new BooleanConfigItem("fake_netherite_blocks", true, "config.netherite_plus.enabled.fake_netherite_blocks");
+        public static final BooleanConfigItem ENABLED_FISHING_ROD = new BooleanConfigItem("fishing_rod", true, "config.netherite_plus.enabled.fishing_rod");
+        public static final BooleanConfigItem ENABLED_HORSE_ARMOR = new BooleanConfigItem("horse_armor", true, "config.netherite_plus.enabled.horse_armor");
+        public static final BooleanConfigItem ENABLED_SHIELDS = new BooleanConfigItem("shields", true, "config.netherite_plus.enabled.shields");
+        public static final BooleanConfigItem ENABLED_SHULKER_BOXES = new BooleanConfigItem("shulker_boxes", true, "config.netherite_plus.enabled.shulker_boxes");
+        public static final BooleanConfigItem ENABLED_TRIDENT = new BooleanConfigItem("trident", true, "config.netherite_plus.enabled.trident");
+        public static final BooleanConfigItem ENABLED_BEACON = new BooleanConfigItem("beacon", true, "config.netherite_plus.enabled.beacon");
 
         public static final List<ConfigItem<?>> OPTIONS = ImmutableList.of(ENABLED_SHULKER_BOXES, ENABLED_ELYTRA, ENABLED_SHIELDS, ENABLED_BOWS_AND_CROSSBOWS, ENABLED_FISHING_ROD, ENABLED_HORSE_ARMOR, ENABLED_FAKE_NETHERITE_BLOCKS, ENABLED_ANVIL, ENABLED_CONFIG_PRINT, ENABLED_TRIDENT, ENABLED_BEACON);
 
@@ -122,9 +210,12 @@ public final class NetheritePlusConfig extends Config {
     }
 
     public static class GRAPHICS extends ConfigItemGroup {
-        public static final ConfigItem<Double> LAVA_VISION_DISTANCE = new ConfigItem<>("lava_vision_distance", 0.25, "config.netherite_plus.graphics.lava_vision", NetheritePlusConfig::createLavaVisionUpdatePacket);
+        public static final DoubleConfigItem LAVA_VISION_DISTANCE = new DoubleConfigItem("lava_vision_distance", 0.25, "config.netherite_plus.graphics.lava_vision");
+
+        public static final BooleanConfigItem BAKED_SHULKER_BOXES = new BooleanConfigItem("baked_shulker_boxes", true, "config.netherite_plus.graphics.baked_shulker_boxes");
 
-        public static final List<ConfigItem<?>> OPTIONS = ImmutableList.of(LAVA_VISION_DISTANCE);
+        public static final List<ConfigItem<?>> OPTIONS = ImmutableList.of(LAVA_VISION_DISTANCE, BAKED_SHULKER_BOXES);
+        public static final List<ConfigItem<?>> CLIENT_LOCAL = ImmutableList.of(BAKED_SHULKER_BOXES);
 
         public GRAPHICS() {
             super(OPTIONS, "graphics");
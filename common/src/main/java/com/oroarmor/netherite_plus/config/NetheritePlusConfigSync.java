@@ -0,0 +1,349 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+import com.oroarmor.config.ConfigItem;
+import com.oroarmor.config.ConfigItemGroup;
+import com.oroarmor.netherite_plus.NetheritePlusMod;
+import com.oroarmor.netherite_plus.network.ConfigSyncS2CPacket;
+import com.oroarmor.netherite_plus.network.S2CPacketEncoder;
+import io.netty.buffer.Unpooled;
+import me.shedaniel.architectury.networking.NetworkManager;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
+
+// the server's config is the one both sides play by: a joining client is sent a checksum of it and asks for the whole
+// snapshot only if its own values differ, after that every change goes out as a numbered delta. client local items,
+// like baked shulker boxes, are never part of it
+public final class NetheritePlusConfigSync {
+    public static final Identifier REQUEST_ID = id("config_request");
+
+    // every synced item in a fixed order, items travel as their index in this list
+    private static final List<ConfigItem<?>> ITEMS = new ArrayList<>();
+    private static final int SCHEMA_HASH;
+
+    static {
+        CRC32 crc = new CRC32();
+        for (ConfigItemGroup group : NetheritePlusMod.CONFIG.getConfigs()) {
+            for (ConfigItem<?> item : group.getConfigs()) {
+                if (!NetheritePlusConfig.isClientLocal(item)) {
+                    ITEMS.add(item);
+                    crc.update((group.getName() + "." + item.getName() + ":" + item.getDefaultValue().getClass().getSimpleName() + ";").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        SCHEMA_HASH = (int) crc.getValue();
+    }
+
+    // server side: the values clients were last told about and how many deltas that took
+    private static Object[] sentValues;
+    private static int version;
+
+    // client side: the version the client is at, -1 when it has not synced, its own values to go back to and the
+    // server's values it last applied
+    private static int syncedVersion = -1;
+    private static Object[] localValues;
+    private static Object[] serverValues;
+
+    // file reloads parsed by NetheritePlusConfigWatcher, in NetheritePlusConfig.getItems() order. the synced items
+    // belong to the server thread whenever one runs, the client local ones to the client thread
+    private static final AtomicReference<Object[]> pendingSharedReload = new AtomicReference<>();
+    private static final AtomicReference<Object[]> pendingLocalReload = new AtomicReference<>();
+
+    private NetheritePlusConfigSync() {
+    }
+
+    public static int getSchemaHash() {
+        return SCHEMA_HASH;
+    }
+
+    public static int size() {
+        return ITEMS.size();
+    }
+
+    public static void queueReload(Object[] values) {
+        pendingSharedReload.set(values);
+        pendingLocalReload.set(values);
+    }
+
+    public static void serverTick(MinecraftServer server) {
+        Object[] reload = pendingSharedReload.getAndSet(null);
+        if (reload != null) {
+            applyReload(reload, false);
+        }
+        if (server.isDedicated() && (reload = pendingLocalReload.getAndSet(null)) != null) {
+            applyReload(reload, true);
+        }
+        tick();
+    }
+
+    @Environment(EnvType.CLIENT)
+    public static void clientTick() {
+        Object[] reload = pendingLocalReload.getAndSet(null);
+        if (reload != null) {
+            applyReload(reload, true);
+        }
+
+        // an integrated server applies the synced items itself
+        if (MinecraftClient.getInstance().getServer() != null || (reload = pendingSharedReload.getAndSet(null)) == null) {
+            return;
+        }
+
+        if (syncedVersion >= 0 || localValues != null) {
+            // playing by a remote server's values, the reloaded file is what to go back to on disconnect
+            if (localValues == null) {
+                localValues = currentValues();
+                serverValues = currentValues();
+            }
+            List<ConfigItem<?>> items = NetheritePlusConfig.getItems();
+            for (int i = 0; i < ITEMS.size(); i++) {
+                localValues[i] = reload[items.indexOf(ITEMS.get(i))];
+            }
+        } else {
+            applyReload(reload, false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void applyReload(Object[] values, boolean clientLocal) {
+        List<ConfigItem<?>> items = NetheritePlusConfig.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            ConfigItem<?> item = items.get(i);
+            if (NetheritePlusConfig.isClientLocal(item) == clientLocal && !Objects.equals(item.getValue(), values[i])) {
+                ((ConfigItem<Object>) item).setValue(values[i]);
+            }
+        }
+    }
+
+    // called every server tick, comparing a few dozen values catches changes from commands, screens and reloads alike
+    public static void tick() {
+        if (sentValues == null) {
+            sentValues = currentValues();
+            return;
+        }
+
+        int[] changed = new int[ITEMS.size()];
+        int count = 0;
+        for (int i = 0; i < ITEMS.size(); i++) {
+            Object value = ITEMS.get(i).getValue();
+            if (!Objects.equals(value, sentValues[i])) {
+                sentValues[i] = value;
+                changed[count++] = i;
+            }
+        }
+
+        if (count > 0) {
+            version++;
+            int[] indices = Arrays.copyOf(changed, count);
+            NetheritePlusMod.CONNECTED_CLIENTS.broadcast(ConfigSyncS2CPacket.ID, ConfigSyncS2CPacket.delta(version, indices, valuesAt(sentValues, indices)));
+        }
+    }
+
+    public static void sendHello(ServerPlayerEntity player) {
+        tick();
+        player.networkHandler.sendPacket(S2CPacketEncoder.encode(ConfigSyncS2CPacket.ID, ConfigSyncS2CPacket.hello(version, checksum(sentValues))));
+    }
+
+    public static void sendSnapshot(ServerPlayerEntity player) {
+        tick();
+        int[] indices = new int[ITEMS.size()];
+        Arrays.setAll(indices, i -> i);
+        player.networkHandler.sendPacket(S2CPacketEncoder.encode(ConfigSyncS2CPacket.ID, ConfigSyncS2CPacket.snapshot(version, indices, sentValues.clone())));
+    }
+
+    @Environment(EnvType.CLIENT)
+    public static void onPacket(ConfigSyncS2CPacket packet) {
+        // a client hosting the server already reads the very items being synced
+        if (MinecraftClient.getInstance().getServer() != null) {
+            return;
+        }
+
+        if (!packet.isCompatible()) {
+            NetheritePlusMod.LOGGER.warn("Server config layout does not match this version of Netherite Plus, keeping the local config");
+            syncedVersion = -1;
+            return;
+        }
+
+        switch (packet.getType()) {
+            case ConfigSyncS2CPacket.HELLO:
+                if (packet.getChecksum() == checksum(currentValues())) {
+                    syncedVersion = packet.getVersion();
+                } else {
+                    requestSnapshot();
+                }
+                break;
+            case ConfigSyncS2CPacket.SNAPSHOT:
+                apply(packet);
+                break;
+            case ConfigSyncS2CPacket.DELTA:
+                if (syncedVersion >= 0 && packet.getVersion() == syncedVersion + 1) {
+                    apply(packet);
+                } else if (syncedVersion >= 0) {
+                    // a delta went missing, start over from a snapshot
+                    requestSnapshot();
+                }
+                break;
+        }
+    }
+
+    // the joined server's values only last for the session
+    @Environment(EnvType.CLIENT)
+    public static void onDisconnect() {
+        if (localValues != null) {
+            setValues(localValues);
+            localValues = null;
+            serverValues = null;
+        }
+        syncedVersion = -1;
+    }
+
+    @Environment(EnvType.CLIENT)
+    private static void requestSnapshot() {
+        syncedVersion = -1;
+        NetworkManager.sendToServer(REQUEST_ID, new PacketByteBuf(Unpooled.buffer()));
+    }
+
+    // runs on the client thread with every value already decoded, so nothing ever sees half a delta
+    @Environment(EnvType.CLIENT)
+    private static void apply(ConfigSyncS2CPacket packet) {
+        if (localValues == null) {
+            localValues = currentValues();
+            // a matching hello means the values so far are the server's too
+            serverValues = currentValues();
+        }
+
+        Object[] values = currentValues();
+        int[] indices = packet.getIndices();
+        for (int i = 0; i < indices.length; i++) {
+            values[indices[i]] = packet.getValues()[i];
+            serverValues[indices[i]] = packet.getValues()[i];
+        }
+        setValues(values);
+        syncedVersion = packet.getVersion();
+    }
+
+    // what the config file should hold for every item of NetheritePlusConfig.getItems(), or null when the live values
+    // are the player's own. items still at the server's value are written as the player's own value, anything changed
+    // during the session, say through the config screen, becomes the player's own value
+    @Nullable
+    static Object[] getPersistedValues() {
+        if (localValues == null) {
+            return null;
+        }
+
+        List<ConfigItem<?>> items = NetheritePlusConfig.getItems();
+        Object[] values = new Object[items.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = items.get(i).getValue();
+        }
+        for (int i = 0; i < ITEMS.size(); i++) {
+            Object value = ITEMS.get(i).getValue();
+            if (!Objects.equals(value, serverValues[i])) {
+                localValues[i] = value;
+                serverValues[i] = value;
+            }
+            values[items.indexOf(ITEMS.get(i))] = localValues[i];
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setValues(Object[] values) {
+        for (int i = 0; i < ITEMS.size(); i++) {
+            // skip equal values so an integrated server does not hear its own items change
+            if (!Objects.equals(ITEMS.get(i).getValue(), values[i])) {
+                ((ConfigItem<Object>) ITEMS.get(i)).setValue(values[i]);
+            }
+        }
+    }
+
+    public static void writeValue(PacketByteBuf buf, int index, Object value) {
+        Object defaultValue = ITEMS.get(index).getDefaultValue();
+        if (defaultValue instanceof Boolean) {
+            buf.writeBoolean((Boolean) value);
+        } else if (defaultValue instanceof Integer) {
+            buf.writeVarInt((Integer) value);
+        } else if (defaultValue instanceof Double) {
+            buf.writeDouble((Double) value);
+        } else {
+            buf.writeString(String.valueOf(value));
+        }
+    }
+
+    public static Object readValue(PacketByteBuf buf, int index) {
+        Object defaultValue = ITEMS.get(index).getDefaultValue();
+        if (defaultValue instanceof Boolean) {
+            return buf.readBoolean();
+        } else if (defaultValue instanceof Integer) {
+            return buf.readVarInt();
+        } else if (defaultValue instanceof Double) {
+            return buf.readDouble();
+        }
+        return buf.readString(32767);
+    }
+
+    private static Object[] currentValues() {
+        Object[] values = new Object[ITEMS.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ITEMS.get(i).getValue();
+        }
+        return values;
+    }
+
+    private static Object[] valuesAt(Object[] values, int[] indices) {
+        Object[] selected = new Object[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            selected[i] = values[indices[i]];
+        }
+        return selected;
+    }
+
+    private static int checksum(Object[] values) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        for (int i = 0; i < values.length; i++) {
+            writeValue(buf, i, values[i]);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), buf.arrayOffset(), buf.writerIndex());
+        return (int) crc.getValue();
+    }
+}
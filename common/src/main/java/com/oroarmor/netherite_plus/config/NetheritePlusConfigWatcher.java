@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+import com.oroarmor.netherite_plus.NetheritePlusMod;
+
+// reloads the config file when it is saved, so values can be retuned without a restart
+public final class NetheritePlusConfigWatcher implements Runnable {
+    // editors often write a file in several steps, wait for them to settle before reading
+    private static final long SETTLE_MILLIS = 200L;
+
+    private final File file;
+    private final WatchService watchService;
+    private long lastModified;
+
+    private NetheritePlusConfigWatcher(File file, WatchService watchService) {
+        this.file = file;
+        this.watchService = watchService;
+        lastModified = file.lastModified();
+    }
+
+    public static void start(File file) {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            file.getAbsoluteFile().getParentFile().toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            Thread thread = new Thread(new NetheritePlusConfigWatcher(file, watchService), "Netherite Plus Config Watcher");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (IOException e) {
+            NetheritePlusMod.LOGGER.warn("Could not watch " + file + " for changes, config reloading is disabled", e);
+        }
+    }
+
+    @Override
+    public void run() {
+        Path fileName = file.toPath().getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= fileName.equals(event.context());
+                }
+                if (changed) {
+                    Thread.sleep(SETTLE_MILLIS);
+                    // drop the events of the remaining write steps, one read covers them all
+                    key.pollEvents();
+                    reload();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // shutting down
+        }
+    }
+
+    private void reload() {
+        long modified = file.lastModified();
+        if (modified == lastModified) {
+            return;
+        }
+        lastModified = modified;
+
+        // only the parse happens here, the values are handed to the server and client threads to apply on their next tick
+        try {
+            NetheritePlusConfigSync.queueReload(NetheritePlusConfig.readValuesFromFile());
+            NetheritePlusMod.LOGGER.info("Reloaded " + file.getName());
+        } catch (RuntimeException e) {
+            NetheritePlusMod.LOGGER.warn("Could not reload " + file.getName() + ", keeping the current values", e);
+        }
+    }
+}
@@ -53,6 +53,7 @@ import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.BlockView;
 import net.minecraft.world.World;
 
 import net.fabricmc.api.EnvType;
@@ -80,7 +81,7 @@ public class NetheriteFishingBobberEntity extends FishingBobberEntity {
         return false;
     }
 
-    private FishingBobberEntity.PositionType getPositionType(BlockPos pos) {
+    private static FishingBobberEntity.PositionType getPositionType(BlockView world, BlockPos pos) {
         BlockState blockState = world.getBlockState(pos);
         if (!blockState.isAir()) {
             FluidState fluidState = blockState.getFluidState();
@@ -90,8 +91,8 @@ public class NetheriteFishingBobberEntity extends FishingBobberEntity {
         }
     }
 
-    private FishingBobberEntity.PositionType getPositionType(BlockPos start, BlockPos end) {
-        return BlockPos.stream(start, end).map(this::getPositionType).reduce((positionType, positionType2) -> positionType == positionType2 ? positionType : PositionType.INVALID).orElse(FishingBobberEntity.PositionType.INVALID);
+    private static FishingBobberEntity.PositionType getPositionType(BlockView world, BlockPos start, BlockPos end) {
+        return BlockPos.stream(start, end).map(pos -> getPositionType(world, pos)).reduce((positionType, positionType2) -> positionType == positionType2 ? positionType : PositionType.INVALID).orElse(FishingBobberEntity.PositionType.INVALID);
     }
 
     @Override
@@ -104,11 +105,12 @@ public class NetheriteFishingBobberEntity extends FishingBobberEntity {
         return false;
     }
 
-    private boolean isOpenOrLavaAround(BlockPos pos) {
+    // only reads blocks, so it takes a view instead of the entity's world
+    private static boolean isOpenOrLavaAround(BlockView world, BlockPos pos) {
         FishingBobberEntity.PositionType positionType = FishingBobberEntity.PositionType.INVALID;
 
         for (int i = -1; i <= 2; ++i) {
-            FishingBobberEntity.PositionType positionType2 = this.getPositionType(pos.add(-2, i, -2), pos.add(2, i, 2));
+            FishingBobberEntity.PositionType positionType2 = getPositionType(world, pos.add(-2, i, -2), pos.add(2, i, 2));
             switch (positionType2) {
                 case INVALID:
                     return false;
@@ -225,7 +227,7 @@ public class NetheriteFishingBobberEntity extends FishingBobberEntity {
                     if (hookCountdown <= 0 && fishTravelCountdown <= 0) {
                         inOpenWater = true;
                     } else {
-                        inOpenWater = inOpenWater && outOfOpenWaterTicks < 10 && isOpenOrLavaAround(blockPos);
+                        inOpenWater = inOpenWater && outOfOpenWaterTicks < 10 && isOpenOrLavaAround(world, blockPos);
                     }
 
                     if (validFluid) {
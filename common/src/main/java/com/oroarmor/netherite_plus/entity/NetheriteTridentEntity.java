@@ -74,7 +74,7 @@ public class NetheriteTridentEntity extends TridentEntity {
             f += EnchantmentHelper.getAttackDamage(tridentStack, livingEntity.getGroup());
         }
 
-        f = (float) (f * NetheritePlusConfig.DAMAGE.TRIDENT_DAMAGE_MULTIPLIER.getValue() + NetheritePlusConfig.DAMAGE.TRIDENT_DAMAGE_ADDITION.getValue());
+        f = (float) (f * NetheritePlusConfig.DAMAGE.TRIDENT_DAMAGE_MULTIPLIER.getDouble() + NetheritePlusConfig.DAMAGE.TRIDENT_DAMAGE_ADDITION.getDouble());
 
         Entity entity2 = getOwner();
         DamageSource damageSource = DamageSource.trident(this, entity2 == null ? this : entity2);
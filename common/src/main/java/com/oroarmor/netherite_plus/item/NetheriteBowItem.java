@@ -73,7 +73,7 @@ public class NetheriteBowItem extends BowItem {
                             persistentProjectileEntity.setDamage(persistentProjectileEntity.getDamage() + j * 0.5D + 0.5D);
                         }
 
-                        persistentProjectileEntity.setDamage(persistentProjectileEntity.getDamage() * NetheritePlusConfig.DAMAGE.BOW_DAMAGE_MULTIPLIER.getValue() + NetheritePlusConfig.DAMAGE.BOW_DAMAGE_ADDITION.getValue());
+                        persistentProjectileEntity.setDamage(persistentProjectileEntity.getDamage() * NetheritePlusConfig.DAMAGE.BOW_DAMAGE_MULTIPLIER.getDouble() + NetheritePlusConfig.DAMAGE.BOW_DAMAGE_ADDITION.getDouble());
 
                         int k = EnchantmentHelper.getLevel(Enchantments.PUNCH, stack);
                         if (k > 0) {
@@ -24,18 +24,16 @@
 
 package com.oroarmor.netherite_plus.mixin;
 
+import java.util.Map;
+
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
 
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.network.ClientPlayNetworkHandler;
-import net.minecraft.client.world.ClientWorld;
-
-@Mixin(ClientPlayNetworkHandler.class)
-public interface ClientPlayNetworkHandlerAccessor {
-    @Accessor
-    MinecraftClient getClient();
+import net.minecraft.advancement.PlayerAdvancementTracker;
+import net.minecraft.advancement.criterion.AbstractCriterion;
 
+@Mixin(AbstractCriterion.class)
+public interface AbstractCriterionAccessor {
     @Accessor
-    ClientWorld getWorld();
+    Map<PlayerAdvancementTracker, ?> getProgressions();
 }
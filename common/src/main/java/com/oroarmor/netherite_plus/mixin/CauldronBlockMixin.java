@@ -26,6 +26,7 @@ package com.oroarmor.netherite_plus.mixin;
 
 import com.oroarmor.netherite_plus.block.NetheritePlusBlocks;
 import com.oroarmor.netherite_plus.block.NetheriteShulkerBoxBlock;
+import com.oroarmor.netherite_plus.block.NetheriteShulkerBoxContents;
 import com.oroarmor.netherite_plus.config.NetheritePlusConfig;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -61,7 +62,7 @@ public class CauldronBlockMixin {
         if (NetheritePlusConfig.ENABLED.ENABLED_SHULKER_BOXES.getValue() && block instanceof NetheriteShulkerBoxBlock && !world.isClient() && i > 0) {
             ItemStack itemStack5 = new ItemStack(NetheritePlusBlocks.NETHERITE_SHULKER_BOX.get(), 1);
             if (itemStack.hasTag()) {
-                itemStack5.setTag(itemStack.getTag().copy());
+                itemStack5.setTag(NetheriteShulkerBoxContents.copyTag(itemStack.getTag()));
             }
 
             player.setStackInHand(hand, itemStack5);
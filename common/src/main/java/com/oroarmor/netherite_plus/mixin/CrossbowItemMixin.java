@@ -43,11 +43,11 @@ import net.minecraft.world.World;
 public class CrossbowItemMixin {
     @Inject(method = "createArrow", at = @At("RETURN"), locals = LocalCapture.CAPTURE_FAILSOFT, cancellable = true)
     private static void createArrow(World world, LivingEntity entity, ItemStack crossbow, ItemStack arrow, CallbackInfoReturnable<PersistentProjectileEntity> cir, ArrowItem arrowItem, PersistentProjectileEntity persistentProjectileEntity) {
-        if (NetheritePlusConfig.ENABLED.ENABLED_BOWS_AND_CROSSBOWS.getValue() && crossbow.getItem() != NetheritePlusItems.NETHERITE_CROSSBOW.get()) {
+        if (NetheritePlusConfig.ENABLED.ENABLED_BOWS_AND_CROSSBOWS.getBoolean() && crossbow.getItem() != NetheritePlusItems.NETHERITE_CROSSBOW.get()) {
             return;
         }
 
-        persistentProjectileEntity.setDamage(persistentProjectileEntity.getDamage() * NetheritePlusConfig.DAMAGE.CROSSBOW_DAMAGE_MULTIPLIER.getValue() + NetheritePlusConfig.DAMAGE.CROSSBOW_DAMAGE_ADDITION.getValue());
+        persistentProjectileEntity.setDamage(persistentProjectileEntity.getDamage() * NetheritePlusConfig.DAMAGE.CROSSBOW_DAMAGE_MULTIPLIER.getDouble() + NetheritePlusConfig.DAMAGE.CROSSBOW_DAMAGE_ADDITION.getDouble());
         cir.setReturnValue(persistentProjectileEntity);
     }
 }
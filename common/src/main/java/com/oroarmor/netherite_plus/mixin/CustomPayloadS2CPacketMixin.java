@@ -22,42 +22,21 @@
  * SOFTWARE.
  */
 
-package com.oroarmor.netherite_plus.network;
+package com.oroarmor.netherite_plus.mixin;
 
-import java.io.IOException;
+import com.oroarmor.netherite_plus.network.S2CPacketEncoder;
+import io.netty.buffer.ByteBuf;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
 
-import net.minecraft.network.Packet;
 import net.minecraft.network.PacketByteBuf;
-import net.minecraft.network.listener.ClientPlayPacketListener;
-import net.minecraft.util.Identifier;
-
-import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
-
-public class LavaVisionUpdatePacket implements Packet<ClientPlayPacketListener> {
-    public static Identifier ID = id("lava_vision_update");
-
-    private double lavaVisionValue;
-
-    public LavaVisionUpdatePacket(double lavaVisionValue) {
-        this.lavaVisionValue = lavaVisionValue;
-    }
-
-    @Override
-    public void read(PacketByteBuf arg) throws IOException {
-        lavaVisionValue = arg.readDouble();
-    }
-
-    @Override
-    public void write(PacketByteBuf arg) throws IOException {
-        arg.writeDouble(lavaVisionValue);
-    }
-
-    public double getDistance() {
-        return lavaVisionValue;
-    }
-
-    @Override
-    public void apply(ClientPlayPacketListener listener) {
+import net.minecraft.network.packet.s2c.play.CustomPayloadS2CPacket;
 
+@Mixin(CustomPayloadS2CPacket.class)
+public class CustomPayloadS2CPacketMixin {
+    @Redirect(method = "write", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/PacketByteBuf;copy()Lio/netty/buffer/ByteBuf;"))
+    private ByteBuf shareReadOnlyData(PacketByteBuf data) {
+        return S2CPacketEncoder.view(data);
     }
 }
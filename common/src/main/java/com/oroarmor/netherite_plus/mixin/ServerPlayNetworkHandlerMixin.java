@@ -25,7 +25,7 @@
 package com.oroarmor.netherite_plus.mixin;
 
 import com.oroarmor.netherite_plus.NetheritePlusMod;
-import com.oroarmor.netherite_plus.config.NetheritePlusConfig;
+import com.oroarmor.netherite_plus.config.NetheritePlusConfigSync;
 import com.oroarmor.netherite_plus.screen.NetheriteAnvilScreenHandler;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -45,7 +45,7 @@ public class ServerPlayNetworkHandlerMixin {
     @Inject(method = "<init>", at = @At("RETURN"))
     public void init(MinecraftServer server, ClientConnection connection, ServerPlayerEntity player, CallbackInfo info) {
         NetheritePlusMod.CONNECTED_CLIENTS.add(player);
-        NetheritePlusConfig.createLavaVisionUpdatePacket(player);
+        NetheritePlusConfigSync.sendHello(player);
     }
 
     @Inject(method = "disconnect", at = @At("RETURN"))
@@ -53,6 +53,12 @@ public class ServerPlayNetworkHandlerMixin {
         NetheritePlusMod.CONNECTED_CLIENTS.remove(((ServerPlayNetworkHandler) (Object) this).player);
     }
 
+    // clients that leave on their own never go through disconnect
+    @Inject(method = "onDisconnected", at = @At("RETURN"))
+    public void onDisconnected(Text reason, CallbackInfo info) {
+        NetheritePlusMod.CONNECTED_CLIENTS.remove(((ServerPlayNetworkHandler) (Object) this).player);
+    }
+
     @Inject(method = "onRenameItem", at = @At("RETURN"))
     public void onRenameItem(RenameItemC2SPacket packet, CallbackInfo info) {
         if (((ServerPlayNetworkHandler) (Object) this).player.currentScreenHandler instanceof NetheriteAnvilScreenHandler) {
@@ -24,30 +24,51 @@
 
 package com.oroarmor.netherite_plus.mixin;
 
-import com.oroarmor.netherite_plus.NetheritePlusMod;
-import io.netty.buffer.Unpooled;
-import me.shedaniel.architectury.networking.NetworkManager;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.data.DataTracker;
+import net.minecraft.entity.data.TrackedData;
+import net.minecraft.entity.data.TrackedDataHandlerRegistry;
 import net.minecraft.entity.projectile.PersistentProjectileEntity;
 import net.minecraft.entity.projectile.TridentEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
 import net.minecraft.network.Packet;
-import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.registry.Registry;
+import net.minecraft.world.World;
 
-@Mixin(PersistentProjectileEntity.class)
-public class TridentEntityMixin {
-    @SuppressWarnings("cast")
-    @Inject(method = "createSpawnPacket", at = @At("HEAD"))
-    public void sendTridentStackOnSpawn(CallbackInfoReturnable<Packet<?>> info) {
-        if (((Object) this) instanceof TridentEntity) {
-            PacketByteBuf passedData = new PacketByteBuf(Unpooled.buffer());
-            passedData.writeInt(Registry.ITEM.getRawId(((TridentEntity) (Object) this).tridentStack.getItem()));
-            NetworkManager.sendToPlayers(((Entity) (Object) this).world.getServer().getPlayerManager().getPlayerList(), NetheritePlusMod.id("netherite_trident"), passedData);
+@Mixin(TridentEntity.class)
+public abstract class TridentEntityMixin extends PersistentProjectileEntity {
+    // raw id of the thrown item, part of the tracked data every player gets right after the spawn packet
+    @Unique
+    private static final TrackedData<Integer> TRIDENT_ITEM = DataTracker.registerData(TridentEntity.class, TrackedDataHandlerRegistry.INTEGER);
+
+    protected TridentEntityMixin(EntityType<? extends PersistentProjectileEntity> entityType, World world) {
+        super(entityType, world);
+    }
+
+    @Inject(method = "initDataTracker", at = @At("TAIL"))
+    private void initTridentItem(CallbackInfo info) {
+        dataTracker.startTracking(TRIDENT_ITEM, Registry.ITEM.getRawId(Items.TRIDENT));
+    }
+
+    // called by the entity tracker for each player that starts tracking, just before it sends the tracked data
+    @Override
+    public Packet<?> createSpawnPacket() {
+        dataTracker.set(TRIDENT_ITEM, Registry.ITEM.getRawId(((TridentEntity) (Object) this).tridentStack.getItem()));
+        return super.createSpawnPacket();
+    }
+
+    @Override
+    public void onTrackedDataSet(TrackedData<?> data) {
+        super.onTrackedDataSet(data);
+        if (world.isClient && TRIDENT_ITEM.equals(data)) {
+            ((TridentEntity) (Object) this).tridentStack = new ItemStack(Registry.ITEM.get(dataTracker.get(TRIDENT_ITEM)));
         }
     }
 }
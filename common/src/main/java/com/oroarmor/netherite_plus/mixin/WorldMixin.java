@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.mixin;
+
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconEffectScheduler;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconIndex;
+import com.oroarmor.netherite_plus.block.entity.NetheriteBeaconPulseScheduler;
+import com.oroarmor.netherite_plus.block.entity.NetheriteShulkerBoxAnimator;
+import com.oroarmor.netherite_plus.world.NetheriteBeaconWorld;
+import com.oroarmor.netherite_plus.world.NetheriteShulkerBoxWorld;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+@Mixin(World.class)
+public abstract class WorldMixin implements NetheriteBeaconWorld, NetheriteShulkerBoxWorld {
+    @Unique
+    private final NetheriteBeaconIndex netheritePlusBeaconIndex = new NetheriteBeaconIndex();
+
+    @Unique
+    private final NetheriteBeaconEffectScheduler netheritePlusBeaconEffectScheduler = new NetheriteBeaconEffectScheduler();
+
+    @Unique
+    private final NetheriteBeaconPulseScheduler netheritePlusBeaconPulseScheduler = new NetheriteBeaconPulseScheduler();
+
+    @Unique
+    private final NetheriteShulkerBoxAnimator netheritePlusShulkerBoxAnimator = new NetheriteShulkerBoxAnimator();
+
+    @Inject(method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;II)Z", at = @At("RETURN"))
+    public void onSetBlockState(BlockPos pos, BlockState state, int flags, int maxUpdateDepth, CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ()) {
+            netheritePlusBeaconIndex.onBlockChanged(pos);
+        }
+    }
+
+    @Override
+    public NetheriteBeaconIndex getNetheriteBeaconIndex() {
+        return netheritePlusBeaconIndex;
+    }
+
+    @Override
+    public NetheriteBeaconEffectScheduler getNetheriteBeaconEffectScheduler() {
+        return netheritePlusBeaconEffectScheduler;
+    }
+
+    @Override
+    public NetheriteBeaconPulseScheduler getNetheriteBeaconPulseScheduler() {
+        return netheritePlusBeaconPulseScheduler;
+    }
+
+    @Override
+    public NetheriteShulkerBoxAnimator getNetheriteShulkerBoxAnimator() {
+        return netheritePlusShulkerBoxAnimator;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.mixin.render;
+
+import java.util.SortedMap;
+
+import com.oroarmor.netherite_plus.client.render.NetheritePlusRenderCache;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferBuilderStorage;
+import net.minecraft.client.render.RenderLayer;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+@Environment(EnvType.CLIENT)
+@Mixin(BufferBuilderStorage.class)
+public class BufferBuilderStorageMixin {
+    @Shadow
+    @Final
+    private SortedMap<RenderLayer, BufferBuilder> entityBuilders;
+
+    // without a buffer of their own the beam layers share the fallback buffer, which is flushed every time
+    // a beacon switches between its inner and outer beam
+    @Inject(at = @At("RETURN"), method = "<init>")
+    private void onInit(CallbackInfo info) {
+        addBuffer(NetheritePlusRenderCache.BEACON_BEAM_LAYER);
+        addBuffer(NetheritePlusRenderCache.TRANSLUCENT_BEACON_BEAM_LAYER);
+    }
+
+    @Unique
+    private void addBuffer(RenderLayer layer) {
+        if (!entityBuilders.containsKey(layer)) {
+            entityBuilders.put(layer, new BufferBuilder(layer.getExpectedBufferSize()));
+        }
+    }
+}
@@ -24,6 +24,7 @@
 
 package com.oroarmor.netherite_plus.mixin.render;
 
+import com.oroarmor.netherite_plus.client.render.NetheritePlusRenderCache;
 import com.oroarmor.netherite_plus.config.NetheritePlusConfig;
 import com.oroarmor.netherite_plus.item.NetheritePlusItems;
 import org.spongepowered.asm.mixin.Mixin;
@@ -36,14 +37,12 @@ import net.minecraft.client.render.entity.TridentEntityRenderer;
 import net.minecraft.entity.projectile.TridentEntity;
 import net.minecraft.util.Identifier;
 
-import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
-
 @Mixin(TridentEntityRenderer.class)
 public class TridentEntityRendererMixin {
     @Inject(method = "getTexture", at = @At(value = "HEAD"), cancellable = true)
     public void getTextureMixin(TridentEntity entity, CallbackInfoReturnable<Identifier> cir) {
-        if(NetheritePlusConfig.ENABLED.ENABLED_TRIDENT.getValue() && entity.tridentStack.getItem() == NetheritePlusItems.NETHERITE_TRIDENT.get()) {
-            cir.setReturnValue(id("textures/entity/netherite_trident.png"));
+        if(NetheritePlusConfig.ENABLED.ENABLED_TRIDENT.getBoolean() && entity.tridentStack.getItem() == NetheritePlusItems.NETHERITE_TRIDENT.get()) {
+            cir.setReturnValue(NetheritePlusRenderCache.NETHERITE_TRIDENT_TEXTURE);
         }
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.network;
+
+import java.io.IOException;
+
+import com.oroarmor.netherite_plus.config.NetheritePlusConfigSync;
+
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.util.Identifier;
+
+import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
+
+public class ConfigSyncS2CPacket implements Packet<ClientPlayPacketListener> {
+    public static final Identifier ID = id("config_sync");
+
+    // bump when the layout changes, together with the schema hash it tells a client whether it can read the values
+    public static final int PROTOCOL_VERSION = 1;
+
+    public static final int HELLO = 0;
+    public static final int SNAPSHOT = 1;
+    public static final int DELTA = 2;
+
+    private boolean compatible;
+    private int type;
+    private int version;
+    private int checksum;
+    private int[] indices;
+    private Object[] values;
+
+    public ConfigSyncS2CPacket() {
+    }
+
+    private ConfigSyncS2CPacket(int type, int version, int checksum, int[] indices, Object[] values) {
+        compatible = true;
+        this.type = type;
+        this.version = version;
+        this.checksum = checksum;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    public static ConfigSyncS2CPacket hello(int version, int checksum) {
+        return new ConfigSyncS2CPacket(HELLO, version, checksum, new int[0], new Object[0]);
+    }
+
+    public static ConfigSyncS2CPacket snapshot(int version, int[] indices, Object[] values) {
+        return new ConfigSyncS2CPacket(SNAPSHOT, version, 0, indices, values);
+    }
+
+    public static ConfigSyncS2CPacket delta(int version, int[] indices, Object[] values) {
+        return new ConfigSyncS2CPacket(DELTA, version, 0, indices, values);
+    }
+
+    @Override
+    public void read(PacketByteBuf buf) throws IOException {
+        compatible = buf.readByte() == PROTOCOL_VERSION && buf.readInt() == NetheritePlusConfigSync.getSchemaHash();
+        if (!compatible) {
+            return;
+        }
+
+        type = buf.readByte();
+        version = buf.readVarInt();
+        if (type == HELLO) {
+            checksum = buf.readInt();
+            indices = new int[0];
+            values = new Object[0];
+            return;
+        }
+
+        int count = buf.readVarInt();
+        indices = new int[count];
+        values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            int index = buf.readVarInt();
+            if (index < 0 || index >= NetheritePlusConfigSync.size()) {
+                throw new IOException("Config item " + index + " out of range");
+            }
+            indices[i] = index;
+            values[i] = NetheritePlusConfigSync.readValue(buf, index);
+        }
+    }
+
+    @Override
+    public void write(PacketByteBuf buf) throws IOException {
+        buf.writeByte(PROTOCOL_VERSION);
+        buf.writeInt(NetheritePlusConfigSync.getSchemaHash());
+        buf.writeByte(type);
+        buf.writeVarInt(version);
+        if (type == HELLO) {
+            buf.writeInt(checksum);
+            return;
+        }
+
+        buf.writeVarInt(indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            buf.writeVarInt(indices[i]);
+            NetheritePlusConfigSync.writeValue(buf, indices[i], values[i]);
+        }
+    }
+
+    public boolean isCompatible() {
+        return compatible;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getChecksum() {
+        return checksum;
+    }
+
+    public int[] getIndices() {
+        return indices;
+    }
+
+    public Object[] getValues() {
+        return values;
+    }
+
+    @Override
+    public void apply(ClientPlayPacketListener listener) {
+
+    }
+}
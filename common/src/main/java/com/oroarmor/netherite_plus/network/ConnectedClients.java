@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.network;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.network.Packet;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+
+// players are only weakly held, so a session whose disconnect never reached us cannot keep its player alive
+public class ConnectedClients {
+    private final Map<UUID, WeakReference<ServerPlayerEntity>> players = new ConcurrentHashMap<>();
+
+    public void add(ServerPlayerEntity player) {
+        players.put(player.getUuid(), new WeakReference<>(player));
+    }
+
+    public void remove(ServerPlayerEntity player) {
+        // a player logging in again gets a new entity under the same uuid, leave that session alone
+        players.computeIfPresent(player.getUuid(), (uuid, reference) -> reference.get() == player ? null : reference);
+    }
+
+    @Nullable
+    public ServerPlayerEntity get(UUID uuid) {
+        WeakReference<ServerPlayerEntity> reference = players.get(uuid);
+        ServerPlayerEntity player = reference == null ? null : reference.get();
+        return player != null && isConnected(player) ? player : null;
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    // the players connected right now, dropping any session that went away without a disconnect
+    public List<ServerPlayerEntity> snapshot() {
+        List<ServerPlayerEntity> snapshot = new ArrayList<>(players.size());
+        for (Map.Entry<UUID, WeakReference<ServerPlayerEntity>> entry : players.entrySet()) {
+            ServerPlayerEntity player = entry.getValue().get();
+            if (player != null && isConnected(player)) {
+                snapshot.add(player);
+            } else {
+                // only drop the reference we looked at, a relog may have replaced it since
+                players.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return snapshot;
+    }
+
+    public void broadcast(Identifier id, Packet<?> payload) {
+        S2CPacketEncoder.send(snapshot(), S2CPacketEncoder.encode(id, payload));
+    }
+
+    private static boolean isConnected(ServerPlayerEntity player) {
+        return player.networkHandler != null && player.networkHandler.getConnection().isOpen();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.network;
+
+import java.io.IOException;
+
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
+
+public class NetheriteBeaconSyncS2CPacket implements Packet<ClientPlayPacketListener> {
+    public static final Identifier ID = id("beacon_sync");
+
+    // bump when the layout changes, clients drop packets of a version they do not know
+    public static final int VERSION = 1;
+
+    public static final int LEVEL = 1;
+    public static final int NETHERITE_LEVEL = 2;
+    public static final int EFFECTS = 4;
+
+    private BlockPos pos;
+    private int changed;
+    private int level;
+    private int netheriteLevel;
+    private int primaryEffectId;
+    private int secondaryEffectId;
+    private int tertiaryEffectId;
+
+    public NetheriteBeaconSyncS2CPacket() {
+    }
+
+    public NetheriteBeaconSyncS2CPacket(BlockPos pos, int changed, int level, int netheriteLevel, int primaryEffectId, int secondaryEffectId, int tertiaryEffectId) {
+        this.pos = pos;
+        this.changed = changed;
+        this.level = level;
+        this.netheriteLevel = netheriteLevel;
+        this.primaryEffectId = primaryEffectId;
+        this.secondaryEffectId = secondaryEffectId;
+        this.tertiaryEffectId = tertiaryEffectId;
+    }
+
+    @Override
+    public void read(PacketByteBuf buf) throws IOException {
+        if (buf.readByte() != VERSION) {
+            changed = 0;
+            return;
+        }
+
+        pos = buf.readBlockPos();
+        changed = buf.readByte();
+        if ((changed & LEVEL) != 0) {
+            level = buf.readByte();
+        }
+        if ((changed & NETHERITE_LEVEL) != 0) {
+            netheriteLevel = buf.readVarInt();
+        }
+        if ((changed & EFFECTS) != 0) {
+            primaryEffectId = buf.readVarInt();
+            secondaryEffectId = buf.readVarInt();
+            tertiaryEffectId = buf.readVarInt();
+        }
+    }
+
+    @Override
+    public void write(PacketByteBuf buf) throws IOException {
+        buf.writeByte(VERSION);
+        buf.writeBlockPos(pos);
+        buf.writeByte(changed);
+        if ((changed & LEVEL) != 0) {
+            buf.writeByte(level);
+        }
+        if ((changed & NETHERITE_LEVEL) != 0) {
+            buf.writeVarInt(netheriteLevel);
+        }
+        if ((changed & EFFECTS) != 0) {
+            buf.writeVarInt(primaryEffectId);
+            buf.writeVarInt(secondaryEffectId);
+            buf.writeVarInt(tertiaryEffectId);
+        }
+    }
+
+    public BlockPos getPos() {
+        return pos;
+    }
+
+    public boolean hasChanged(int field) {
+        return (changed & field) != 0;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getNetheriteLevel() {
+        return netheriteLevel;
+    }
+
+    public int getPrimaryEffectId() {
+        return primaryEffectId;
+    }
+
+    public int getSecondaryEffectId() {
+        return secondaryEffectId;
+    }
+
+    public int getTertiaryEffectId() {
+        return tertiaryEffectId;
+    }
+
+    @Override
+    public void apply(ClientPlayPacketListener listener) {
+
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.network;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.EncoderException;
+import me.shedaniel.architectury.networking.NetworkManager;
+
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+
+// every server to client packet of the mod goes through here: the payload is written once into a read-only buffer
+// and the resulting packet is shared by all of its receivers, see CustomPayloadS2CPacketMixin
+public final class S2CPacketEncoder {
+    private S2CPacketEncoder() {
+    }
+
+    public static Packet<?> encode(Identifier id, Packet<?> payload) {
+        return NetworkManager.toPacket(NetworkManager.Side.S2C, id, write(payload));
+    }
+
+    static PacketByteBuf write(Packet<?> payload) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        try {
+            payload.write(buf);
+        } catch (IOException e) {
+            throw new EncoderException(e);
+        }
+        // an unpooled heap buffer belongs to the garbage collector, so sharing it needs no retain or release
+        return new PacketByteBuf(buf.asReadOnly());
+    }
+
+    // vanilla copies the data so writing it to several connections leaves its reader index alone; a read-only
+    // payload from here cannot change under us, so a duplicate view does the same without the copy
+    public static ByteBuf view(PacketByteBuf data) {
+        return data.isReadOnly() ? data.duplicate() : data.copy();
+    }
+
+    public static void send(Iterable<ServerPlayerEntity> players, Packet<?> packet) {
+        for (ServerPlayerEntity player : players) {
+            player.networkHandler.sendPacket(packet);
+        }
+    }
+}
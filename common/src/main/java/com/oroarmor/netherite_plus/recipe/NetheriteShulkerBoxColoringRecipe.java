@@ -25,6 +25,7 @@
 package com.oroarmor.netherite_plus.recipe;
 
 import com.oroarmor.netherite_plus.block.NetheriteShulkerBoxBlock;
+import com.oroarmor.netherite_plus.block.NetheriteShulkerBoxContents;
 
 import net.minecraft.block.Block;
 import net.minecraft.inventory.CraftingInventory;
@@ -64,7 +65,7 @@ public class NetheriteShulkerBoxColoringRecipe extends SpecialCraftingRecipe {
 
         ItemStack itemStack3 = NetheriteShulkerBoxBlock.getItemStack(dyeItem.getColor());
         if (itemStack.hasTag()) {
-            itemStack3.setTag(itemStack.getTag().copy());
+            itemStack3.setTag(NetheriteShulkerBoxContents.copyTag(itemStack.getTag()));
         }
 
         return itemStack3;
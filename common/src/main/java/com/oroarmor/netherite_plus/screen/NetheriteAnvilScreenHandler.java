@@ -269,7 +269,7 @@ public class NetheriteAnvilScreenHandler extends ForgingScreenHandler {
             }
 
             // this is the important line that changes things
-            double cost = (1d - NetheritePlusConfig.ANVIL.XP_REDUCTION.getValue()) * (j + i);
+            double cost = (1d - NetheritePlusConfig.ANVIL.XP_REDUCTION.getDouble()) * (j + i);
 
             levelCost.set(cost < 1 ? 1 : (int) cost);
             if (i <= 0) {
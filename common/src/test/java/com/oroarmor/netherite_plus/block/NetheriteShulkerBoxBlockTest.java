@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.block;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.block.AbstractBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.Material;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.util.DyeColor;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NetheriteShulkerBoxBlockTest {
+    private static final Block[] BLOCKS = new Block[DyeColor.values().length + 1];
+
+    @BeforeAll
+    public static void register() {
+        Bootstrap.initialize();
+
+        // Registers the boxes the same way the loaders do, including the block item lookup Block.asItem reads
+        for (int i = 0; i < BLOCKS.length; i++) {
+            DyeColor color = i == BLOCKS.length - 1 ? null : DyeColor.byId(i);
+            String name = color == null ? "netherite_shulker_box" : "netherite_" + color.getName() + "_shulker_box";
+            Block block = Registry.register(Registry.BLOCK, new Identifier("netherite_plus", name), new NetheriteShulkerBoxBlock(color, AbstractBlock.Settings.of(Material.SHULKER_BOX)));
+            BlockItem item = Registry.register(Registry.ITEM, new Identifier("netherite_plus", name), new BlockItem(block, new Item.Settings()));
+            item.appendBlocks(Item.BLOCK_ITEMS, item);
+            BLOCKS[i] = block;
+        }
+    }
+
+    @Test
+    public void colorTablesMatchRegistry() {
+        // Before registration completes the lookups fall back to the block itself
+        assertEquals(DyeColor.RED, NetheriteShulkerBoxBlock.getColor(BLOCKS[DyeColor.RED.getId()]));
+        assertEquals(DyeColor.RED, NetheriteShulkerBoxBlock.getColor(BLOCKS[DyeColor.RED.getId()].asItem()));
+        assertNull(NetheriteShulkerBoxBlock.getColor(Blocks.STONE));
+        assertTrue(NetheriteShulkerBoxBlock.isShulkerBox(BLOCKS[DyeColor.RED.getId()].asItem()));
+        assertFalse(NetheriteShulkerBoxBlock.isShulkerBox(Items.STONE));
+
+        NetheriteShulkerBoxBlock.buildColorTables(BLOCKS.clone());
+
+        for (DyeColor color : DyeColor.values()) {
+            Block block = Registry.BLOCK.get(new Identifier("netherite_plus", "netherite_" + color.getName() + "_shulker_box"));
+            assertSame(block, NetheriteShulkerBoxBlock.get(color));
+            assertEquals(color, NetheriteShulkerBoxBlock.getColor(block));
+            assertEquals(color, NetheriteShulkerBoxBlock.getColor(Registry.ITEM.get(Registry.BLOCK.getId(block))));
+            assertSame(block, Block.getBlockFromItem(NetheriteShulkerBoxBlock.getItemStack(color).getItem()));
+        }
+
+        Block uncolored = Registry.BLOCK.get(new Identifier("netherite_plus", "netherite_shulker_box"));
+        assertSame(uncolored, NetheriteShulkerBoxBlock.get(null));
+        assertNull(NetheriteShulkerBoxBlock.getColor(uncolored));
+        assertNull(NetheriteShulkerBoxBlock.getColor(uncolored.asItem()));
+
+        assertNull(NetheriteShulkerBoxBlock.getColor(Blocks.SHULKER_BOX));
+        assertNull(NetheriteShulkerBoxBlock.getColor(Items.STONE));
+
+        assertTrue(NetheriteShulkerBoxBlock.isShulkerBox(uncolored.asItem()));
+        assertTrue(NetheriteShulkerBoxBlock.isShulkerBox(Items.SHULKER_BOX));
+        assertTrue(NetheriteShulkerBoxBlock.isShulkerBox(Items.RED_SHULKER_BOX));
+        assertFalse(NetheriteShulkerBoxBlock.isShulkerBox(Items.STONE));
+        assertFalse(NetheriteShulkerBoxBlock.isShulkerBox(Items.CHEST));
+    }
+}
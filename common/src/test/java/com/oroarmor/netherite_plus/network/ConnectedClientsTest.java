@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 OroArmor (Eli Orona)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oroarmor.netherite_plus.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import me.shedaniel.architectury.networking.NetworkManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.network.ClientConnection;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.s2c.play.CustomPayloadS2CPacket;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConnectedClientsTest {
+    private static final Identifier ID = new Identifier("netherite_plus", "test");
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+    }
+
+    @Test
+    public void broadcastWritesPayloadOnce() {
+        ConnectedClients clients = new ConnectedClients();
+        List<ServerPlayNetworkHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            ServerPlayerEntity player = mock(ServerPlayerEntity.class);
+            when(player.getUuid()).thenReturn(UUID.randomUUID());
+            player.networkHandler = connectedHandler();
+            handlers.add(player.networkHandler);
+            clients.add(player);
+        }
+
+        CountingPacket payload = new CountingPacket();
+        try (MockedStatic<NetworkManager> networkManager = mockStatic(NetworkManager.class)) {
+            networkManager.when(() -> NetworkManager.toPacket(eq(NetworkManager.Side.S2C), any(), any())).thenAnswer(invocation -> new CustomPayloadS2CPacket(invocation.getArgument(1), invocation.getArgument(2)));
+            clients.broadcast(ID, payload);
+        }
+
+        assertEquals(1, payload.writes);
+
+        ArgumentCaptor<Packet<?>> sent = ArgumentCaptor.forClass(Packet.class);
+        verify(handlers.get(0)).sendPacket(sent.capture());
+        for (ServerPlayNetworkHandler handler : handlers) {
+            verify(handler, times(1)).sendPacket(sent.getValue());
+        }
+    }
+
+    @Test
+    public void duplicateViewLeavesSharedReaderIndex() {
+        PacketByteBuf shared = S2CPacketEncoder.write(new CountingPacket());
+        assertTrue(shared.isReadOnly());
+
+        // each receiver reads the payload out of its own view, the way CustomPayloadS2CPacket.write does
+        for (int i = 0; i < 16; i++) {
+            ByteBuf view = S2CPacketEncoder.view(shared);
+            assertEquals(CountingPacket.VALUE, view.readInt());
+            assertEquals(0, shared.readerIndex());
+        }
+        assertEquals(Integer.BYTES, shared.readableBytes());
+
+        // anything still writable keeps the vanilla copy
+        PacketByteBuf writable = new PacketByteBuf(Unpooled.buffer());
+        writable.writeInt(CountingPacket.VALUE);
+        ByteBuf copy = S2CPacketEncoder.view(writable);
+        writable.setInt(0, 0);
+        assertEquals(CountingPacket.VALUE, copy.readInt());
+        assertEquals(0, writable.readerIndex());
+    }
+
+    private static ServerPlayNetworkHandler connectedHandler() {
+        ClientConnection connection = mock(ClientConnection.class);
+        when(connection.isOpen()).thenReturn(true);
+        ServerPlayNetworkHandler handler = mock(ServerPlayNetworkHandler.class);
+        when(handler.getConnection()).thenReturn(connection);
+        return handler;
+    }
+
+    private static class CountingPacket implements Packet<ClientPlayPacketListener> {
+        private static final int VALUE = 0x2A2A2A2A;
+        private int writes;
+
+        @Override
+        public void read(PacketByteBuf buf) {
+        }
+
+        @Override
+        public void write(PacketByteBuf buf) {
+            writes++;
+            buf.writeInt(VALUE);
+        }
+
+        @Override
+        public void apply(ClientPlayPacketListener listener) {
+        }
+    }
+}
@@ -25,6 +25,7 @@
 package com.oroarmor.netherite_plus;
 
 import com.oroarmor.config.command.ConfigCommand;
+import com.oroarmor.netherite_plus.block.NetheriteShulkerBoxBlock;
 
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v1.CommandRegistrationCallback;
@@ -37,6 +38,7 @@ public class NetheritePlusModFabric implements ModInitializer {
 		ServerLifecycleEvents.SERVER_STOPPED.register(l -> NetheritePlusMod.CONFIG.saveConfigToFile());
 
 		NetheritePlusMod.registerItemsWithMultiItemLib();
+		NetheriteShulkerBoxBlock.buildColorTables();
 		CommandRegistrationCallback.EVENT.register(new ConfigCommand(NetheritePlusMod.CONFIG)::register);
 	}
 }
@@ -39,7 +39,6 @@ import com.oroarmor.netherite_plus.screen.NetheritePlusScreenHandlers;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.blockrenderlayer.v1.BlockRenderLayerMap;
 import net.fabricmc.fabric.api.client.item.v1.ItemTooltipCallback;
-import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.client.rendereregistry.v1.BlockEntityRendererRegistry;
 import net.fabricmc.fabric.api.client.rendereregistry.v1.LivingEntityFeatureRendererRegistrationCallback;
 import net.fabricmc.fabric.api.client.rendereregistry.v1.LivingEntityFeatureRendererRegistrationCallback.RegistrationHelper;
@@ -56,7 +55,6 @@ import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.text.TranslatableText;
 
-import static com.oroarmor.netherite_plus.NetheritePlusMod.id;
 import static com.oroarmor.netherite_plus.item.NetheritePlusItems.*;
 
 public class NetheritePlusClientModFabric implements ClientModInitializer {
@@ -109,10 +107,6 @@ public class NetheritePlusClientModFabric implements ClientModInitializer {
 			}
 		});
 
-		ClientPlayNetworking.registerGlobalReceiver(id("lava_vision_update"), (minecraft, listener, buf, sender) -> {
-			NetheritePlusClientMod.LAVA_VISION_DISTANCE = buf.getDouble(0);
-		});
-
 		if (FabricLoader.getInstance().isModLoaded("trinkets") && NetheritePlusConfig.ENABLED.ENABLED_ELYTRA.getValue()) {
 			ItemTooltipCallback.EVENT.register((stack, context, lines) -> {
 				if (stack.getItem() == NETHERITE_ELYTRA.get()) {
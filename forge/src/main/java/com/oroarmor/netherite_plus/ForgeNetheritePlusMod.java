@@ -26,9 +26,8 @@ package com.oroarmor.netherite_plus;
 
 import java.io.IOException;
 
+import com.oroarmor.netherite_plus.block.NetheriteShulkerBoxBlock;
 import com.oroarmor.netherite_plus.client.ForgeNetheritePlusModClient;
-import com.oroarmor.netherite_plus.client.NetheritePlusClientMod;
-import com.oroarmor.netherite_plus.network.LavaVisionUpdatePacket;
 import com.oroarmor.netherite_plus.network.UpdateNetheriteBeaconC2SPacket;
 import com.oroarmor.netherite_plus.screen.NetheriteBeaconScreenHandler;
 import me.shedaniel.architectury.platform.forge.EventBuses;
@@ -76,29 +75,11 @@ public class ForgeNetheritePlusMod {
 				}
 			});
 		});
-		INSTANCE.registerMessage(1, LavaVisionUpdatePacket.class, (unb, fbb2) -> {
-			try {
-				unb.write(fbb2);
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-		}, (fbb) -> {
-			LavaVisionUpdatePacket packet = new LavaVisionUpdatePacket(0);
-			try {
-				packet.read(fbb);
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			return packet;
-		}, (packet, ctx) -> {
-			ctx.get().getSender().server.execute(() -> {
-				NetheritePlusClientMod.LAVA_VISION_DISTANCE = packet.getDistance();
-			});
-		});
 	}
 
 	@SubscribeEvent
 	public void registerItemsWithMultiItemLib(FMLLoadCompleteEvent event) {
 		NetheritePlusMod.registerItemsWithMultiItemLib();
+		NetheriteShulkerBoxBlock.buildColorTables();
 	}
 }